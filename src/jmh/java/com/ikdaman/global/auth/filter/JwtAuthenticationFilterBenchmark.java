@@ -0,0 +1,62 @@
+package com.ikdaman.global.auth.filter;
+
+import com.ikdaman.global.auth.model.AuthMember;
+import com.ikdaman.global.auth.service.MemberDetailsService;
+import com.ikdaman.global.auth.token.AuthTokenBenchmark;
+import com.ikdaman.global.auth.token.AuthTokenProvider;
+import jakarta.servlet.ServletException;
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.io.IOException;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.anyString;
+
+/**
+ * 인증이 필요한 요청 한 건의 필터 처리 벤치마크
+ * - 헤더 추출 → Claims 조회(캐시) → 인증 객체 생성 → SecurityContext 저장
+ * - MemberDetailsService는 mock (탈퇴 여부 조회 비용 제외, 호출 기록이 쌓여 처리량이 떨어지지 않도록 stubOnly)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class JwtAuthenticationFilterBenchmark {
+
+    private JwtAuthenticationFilter filter;
+    private String authorization;
+
+    @Setup
+    public void setUp() {
+        MemberDetailsService memberDetailsService = Mockito.mock(MemberDetailsService.class, Mockito.withSettings().stubOnly());
+        Mockito.when(memberDetailsService.loadUserByMemberId(anyString()))
+                .thenAnswer(invocation -> new AuthMember(UUID.fromString(invocation.getArgument(0)), () -> null));
+
+        AuthTokenProvider provider = AuthTokenBenchmark.newProvider(memberDetailsService);
+        filter = new JwtAuthenticationFilter(provider, RouteClassifier.withDefaults());
+        authorization = "Bearer " + provider.createUserAppToken(UUID.randomUUID().toString()).getToken();
+    }
+
+    @Benchmark
+    public MockHttpServletRequest doFilterInternal() throws ServletException, IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/mybooks");
+        request.addHeader("Authorization", authorization);
+        try {
+            filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+        return request;
+    }
+}
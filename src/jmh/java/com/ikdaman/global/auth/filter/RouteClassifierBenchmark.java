@@ -0,0 +1,68 @@
+package com.ikdaman.global.auth.filter;
+
+import com.ikdaman.global.auth.enumerate.RouteType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JwtAuthenticationFilter.shouldNotFilter의 경로 구분 벤치마크
+ * - 컨트롤러의 실제 경로(공개/인증 필요)로 RouteClassifier와 기존 List.contains 방식을 비교
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class RouteClassifierBenchmark {
+
+    // 기존 shouldNotFilter의 제외 목록
+    private static final List<String> NO_CHECK_URLS = List.of(
+            "/auth/login",
+            "/auth/reissue",
+            "/members/check"
+    );
+
+    @Param({
+            "/auth/login",
+            "/members/check",
+            "/members/me",
+            "/mybooks/12/booklog/34",
+            "/notices/3",
+            "/actuator/health/liveness"
+    })
+    public String path;
+
+    private RouteClassifier classifier;
+    private MockHttpServletRequest request;
+
+    @Setup
+    public void setUp() {
+        classifier = RouteClassifier.withDefaults();
+        request = new MockHttpServletRequest("GET", "/api" + path + "/");
+        request.setContextPath("/api");
+    }
+
+    @Benchmark
+    public boolean listContains() {
+        return NO_CHECK_URLS.contains(path);
+    }
+
+    @Benchmark
+    public RouteType classifyPath() {
+        return classifier.classify(path);
+    }
+
+    // context path 제거, 끝의 '/' 정규화 포함
+    @Benchmark
+    public RouteType classifyRequest() {
+        return classifier.classify(request);
+    }
+}
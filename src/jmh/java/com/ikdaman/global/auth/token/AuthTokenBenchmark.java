@@ -0,0 +1,76 @@
+package com.ikdaman.global.auth.token;
+
+import com.ikdaman.global.auth.service.MemberDetailsService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.security.Key;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 토큰 발급/검증 벤치마크
+ * - createUserAppToken: 로그인/재발급 시 AccessToken 발급
+ * - createLoginTokens: 로그인 한 번에 발급하는 AccessToken + RefreshToken
+ * - getTokenClaims: Claims 캐시 적중 시와 매 요청 서명 검증 시
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class AuthTokenBenchmark {
+
+    public static final String SECRET = "benchmark-secret-key-benchmark-secret-key-0123456789";
+
+    private AuthTokenProvider provider;
+    private String memberId;
+    private String accessToken;
+    private Key key;
+    private JwtParser parser;
+
+    @Setup
+    public void setUp() {
+        provider = newProvider(Mockito.mock(MemberDetailsService.class, Mockito.withSettings().stubOnly()));
+        memberId = UUID.randomUUID().toString();
+        accessToken = provider.createUserAppToken(memberId).getToken();
+        key = (Key) ReflectionTestUtils.getField(provider, "key");
+        parser = (JwtParser) ReflectionTestUtils.getField(provider, "jwtParser");
+    }
+
+    @Benchmark
+    public String createUserAppToken() {
+        return provider.createUserAppToken(memberId).getToken();
+    }
+
+    @Benchmark
+    public String createLoginTokens() {
+        provider.createUserAppToken(memberId);
+        return provider.createRefreshToken(memberId, "abcdefghijklmnop").getToken();
+    }
+
+    @Benchmark
+    public Claims getTokenClaimsCached() {
+        return provider.convertAuthToken(accessToken).getTokenClaims();
+    }
+
+    @Benchmark
+    public Claims getTokenClaimsUncached() {
+        return new AuthToken(accessToken, key, parser, null).getTokenClaims();
+    }
+
+    public static AuthTokenProvider newProvider(MemberDetailsService memberDetailsService) {
+        AuthTokenProvider provider = new AuthTokenProvider(SECRET, 1_800_000L, 1_209_600_000L, memberDetailsService,
+                new TokenClaimsCache(10_000, new SimpleMeterRegistry()));
+        ReflectionTestUtils.setField(provider, "statelessPrincipal", true);
+        return provider;
+    }
+}
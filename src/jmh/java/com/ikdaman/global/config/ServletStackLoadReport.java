@@ -0,0 +1,150 @@
+package com.ikdaman.global.config;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 플랫폼 스레드 / 가상 스레드 모드 부하 비교 (실행 중인 서버 필요)
+ * - 동시 연결 LOAD_TEST_CONNECTIONS개(기본 5000)가 응답을 받는 즉시 다음 요청을 보내는 closed-loop 부하
+ * - 처리량, 지연(p50, p99), 오류 수와 서버 heap/스레드 최대값(actuator metrics 공개 시) 출력
+ * - 같은 서버를 두 모드로 띄워 각각 실행한 결과를 비교
+ *   1) gradle bootRun                    → LOAD_TEST_BASE_URL=http://localhost:8080 gradle servletStackLoadReport
+ *   2) gradle bootRun -PvirtualThreads   → 같은 명령으로 다시 실행
+ * - LOAD_TEST_TOKEN: Authorization 헤더에 넣을 AppToken (없으면 인증 없이 요청), LOAD_TEST_PATH: 기본 /mybooks
+ * - 클라이언트도 연결 수만큼 파일 디스크립터가 필요 (ulimit -n)
+ */
+public class ServletStackLoadReport {
+
+    private static final String BASE_URL = System.getenv("LOAD_TEST_BASE_URL");
+    private static final String PATH = env("LOAD_TEST_PATH", "/mybooks");
+    private static final String TOKEN = System.getenv("LOAD_TEST_TOKEN");
+    private static final int CONNECTIONS = Integer.parseInt(env("LOAD_TEST_CONNECTIONS", "5000"));
+    private static final Duration WARM_UP = Duration.ofSeconds(10);
+    private static final Duration MEASURE = Duration.ofSeconds(Long.parseLong(env("LOAD_TEST_SECONDS", "30")));
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    public static void main(String[] args) throws Exception {
+        if (BASE_URL == null || BASE_URL.isBlank()) throw new IllegalStateException("LOAD_TEST_BASE_URL이 필요합니다.");
+        new ServletStackLoadReport().report();
+    }
+
+    private void report() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(10))
+                .executor(executor)
+                .build();
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(BASE_URL + PATH))
+                .timeout(Duration.ofSeconds(30))
+                .GET();
+        if (TOKEN != null) builder.header("Authorization", "Bearer " + TOKEN);
+        HttpRequest request = builder.build();
+
+        run(client, request, WARM_UP, null);
+
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        Timer latency = Timer.builder("load.latency")
+                .publishPercentiles(0.5, 0.99)
+                .register(registry);
+        Result result = run(client, request, MEASURE, latency);
+        executor.shutdownNow();
+
+        System.out.printf("%s%s 동시 연결 %d개, %d초%n", BASE_URL, PATH, CONNECTIONS, MEASURE.toSeconds());
+        System.out.printf("  처리량        %10.1f req/s (오류 %d)%n",
+                (double) result.completed() / MEASURE.toSeconds(), result.errors());
+        for (ValueAtPercentile percentile : latency.takeSnapshot().percentileValues()) {
+            System.out.printf("  지연 p%-6.0f %10.1f ms%n", percentile.percentile() * 100,
+                    percentile.value(TimeUnit.MILLISECONDS));
+        }
+        System.out.printf("  서버 heap 최대 %9.1f MB%n", result.maxHeapBytes() / (1024 * 1024));
+        System.out.printf("  서버 스레드 최대 %7.0f%n", result.maxLiveThreads());
+
+        if (result.completed() == 0) throw new IllegalStateException("성공한 요청이 없습니다.");
+    }
+
+    /**
+     * 연결마다 응답을 받으면 바로 다음 요청을 보내고, 그동안 1초마다 서버 지표를 수집
+     */
+    private Result run(HttpClient client, HttpRequest request, Duration duration, Timer latency) throws Exception {
+        long deadline = System.nanoTime() + duration.toNanos();
+        LongAdder completed = new LongAdder();
+        LongAdder errors = new LongAdder();
+        CountDownLatch finished = new CountDownLatch(CONNECTIONS);
+
+        for (int i = 0; i < CONNECTIONS; i++) {
+            send(client, request, deadline, latency, completed, errors, finished);
+        }
+
+        double maxHeap = Double.NaN;
+        double maxThreads = Double.NaN;
+        while (!finished.await(1, TimeUnit.SECONDS)) {
+            maxHeap = max(maxHeap, serverMetric(client, "jvm.memory.used?tag=area:heap"));
+            maxThreads = max(maxThreads, serverMetric(client, "jvm.threads.live"));
+        }
+        return new Result(completed.sum(), errors.sum(), maxHeap, maxThreads);
+    }
+
+    private void send(HttpClient client, HttpRequest request, long deadline, Timer latency,
+                      LongAdder completed, LongAdder errors, CountDownLatch finished) {
+        long start = System.nanoTime();
+        client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                .whenComplete((response, e) -> {
+                    long end = System.nanoTime();
+                    if (e != null || response.statusCode() >= 400) {
+                        errors.increment();
+                    } else {
+                        completed.increment();
+                        if (latency != null) latency.record(end - start, TimeUnit.NANOSECONDS);
+                    }
+
+                    if (end < deadline) {
+                        send(client, request, deadline, latency, completed, errors, finished);
+                    } else {
+                        finished.countDown();
+                    }
+                });
+    }
+
+    // actuator metrics가 공개되어 있지 않으면 NaN
+    private double serverMetric(HttpClient client, String metric) {
+        try {
+            HttpResponse<String> response = client.send(
+                    HttpRequest.newBuilder(URI.create(BASE_URL + "/actuator/metrics/" + metric))
+                            .timeout(Duration.ofSeconds(5)).build(),
+                    HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() != 200) return Double.NaN;
+            JsonNode measurements = objectMapper.readTree(response.body()).path("measurements");
+            return measurements.isEmpty() ? Double.NaN : measurements.get(0).path("value").asDouble();
+        } catch (Exception e) {
+            return Double.NaN;
+        }
+    }
+
+    private static double max(double current, double sample) {
+        if (Double.isNaN(current)) return sample;
+        return Double.isNaN(sample) ? current : Math.max(current, sample);
+    }
+
+    private static String env(String name, String defaultValue) {
+        String value = System.getenv(name);
+        return (value == null || value.isBlank()) ? defaultValue : value;
+    }
+
+    private record Result(long completed, long errors, double maxHeapBytes, double maxLiveThreads) { }
+}
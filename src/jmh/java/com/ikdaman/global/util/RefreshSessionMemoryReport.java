@@ -0,0 +1,104 @@
+package com.ikdaman.global.util;
+
+import io.jsonwebtoken.JwtBuilder;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.security.Key;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Properties;
+import java.util.UUID;
+
+/**
+ * RefreshToken 저장 형식별 Redis 메모리 사용량 비교 (로컬 Redis 필요, 빈 DB에서 실행)
+ * - 토큰 원문(FMRT: ) → fingerprint(rl:) → 기기별 세션(rs:) 순으로 저장 후 used_memory 차이 출력
+ * - 실행: REDIS_BENCHMARK_HOST=localhost gradle refreshSessionMemoryReport
+ * - 저장/교체 동작 검증은 RedisServiceTest
+ */
+public class RefreshSessionMemoryReport {
+
+    private static final int MEMBERS = 20_000;
+    private static final long TTL_MS = Duration.ofDays(14).toMillis();
+    private static final String SESSION_ID = "abcdefghijklmnop";
+    private static final Key KEY = Keys.hmacShaKeyFor("report-secret-key-report-secret-key-0123".getBytes());
+
+    private final StringRedisTemplate redisTemplate;
+    private final RedisService redisService;
+    private final List<String> memberIds = new ArrayList<>();
+
+    private RefreshSessionMemoryReport(StringRedisTemplate redisTemplate) {
+        this.redisTemplate = redisTemplate;
+        this.redisService = new RedisService(redisTemplate, 5, 5000);
+        for (int i = 0; i < MEMBERS; i++) memberIds.add(UUID.randomUUID().toString());
+    }
+
+    public static void main(String[] args) {
+        String host = System.getenv("REDIS_BENCHMARK_HOST");
+        if (host == null || host.isBlank()) throw new IllegalStateException("REDIS_BENCHMARK_HOST가 필요합니다.");
+
+        LettuceConnectionFactory connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration(host, 6379));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        RefreshSessionMemoryReport report = new RefreshSessionMemoryReport(new StringRedisTemplate(connectionFactory));
+        try {
+            report.run();
+        } finally {
+            report.memberIds.forEach(report.redisService::deleteSessions);
+            connectionFactory.destroy();
+        }
+    }
+
+    private void run() {
+        long empty = usedMemory();
+
+        // 토큰 원문 (회원당 토큰 하나)
+        for (String memberId : memberIds) {
+            redisTemplate.opsForValue().set("FMRT: " + memberId, refreshToken(memberId, null), Duration.ofMillis(TTL_MS));
+        }
+        long fullToken = usedMemory() - empty;
+
+        redisService.migrateLegacyKeys();
+        long singleFingerprint = usedMemory() - empty;
+        memberIds.forEach(redisService::deleteSessions);
+
+        // 기기별 세션 (value에 fingerprint와 마지막 사용 시각)
+        long base = usedMemory();
+        for (String memberId : memberIds) {
+            redisService.startSession(memberId, SESSION_ID, refreshToken(memberId, SESSION_ID), TTL_MS);
+        }
+        long fingerprintSession = usedMemory() - base;
+
+        System.out.printf("RefreshToken 저장 메모리 (백만 세션 환산, 회원 %d명 측정)%n", MEMBERS);
+        print("FMRT: <memberId> = 토큰 원문", fullToken);
+        print("rl:<memberId> = fingerprint", singleFingerprint);
+        print("rs:<memberId> {sid: fingerprint:ts}", fingerprintSession);
+    }
+
+    private void print(String format, long bytes) {
+        double perSession = (double) bytes / MEMBERS;
+        System.out.printf("  %-38s %6.1f B/세션, %8.1f MB/백만%n", format, perSession, perSession * 1_000_000 / (1024 * 1024));
+    }
+
+    private long usedMemory() {
+        Properties info = redisTemplate.execute(connection -> connection.serverCommands().info("memory"), true);
+        return Long.parseLong(info.getProperty("used_memory"));
+    }
+
+    private static String refreshToken(String memberId, String sessionId) {
+        JwtBuilder builder = Jwts.builder()
+                .setSubject(memberId)
+                .claim("role", "USER");
+        if (sessionId != null) builder.claim("sid", sessionId);
+        return builder
+                .signWith(KEY, SignatureAlgorithm.HS256)
+                .setExpiration(new Date(System.currentTimeMillis() + TTL_MS))
+                .compact();
+    }
+}
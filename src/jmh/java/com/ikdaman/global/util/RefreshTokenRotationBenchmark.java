@@ -0,0 +1,98 @@
+package com.ikdaman.global.util;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static com.ikdaman.global.util.RedisService.RotationResult.ROTATED;
+
+/**
+ * RefreshToken 교체 처리량 비교 (로컬 Redis 필요)
+ * - getCompareSet: GET 후 Java에서 비교하고 SET 하던 기존 방식 (2번 왕복)
+ * - luaRotate: Lua 스크립트 세션 교체 (1번 왕복)
+ * - 스레드마다 회원 한 명의 토큰을 연속으로 교체
+ * - 실행: REDIS_BENCHMARK_HOST=localhost gradle jmh -PjmhIncludes=RefreshTokenRotationBenchmark
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(16)
+public class RefreshTokenRotationBenchmark {
+
+    private static final long TTL_MS = Duration.ofMinutes(10).toMillis();
+    private static final String SESSION_ID = "device-1";
+
+    private String memberId;
+    private String current;
+    private int rotations;
+
+    @State(Scope.Benchmark)
+    public static class Redis {
+        private LettuceConnectionFactory connectionFactory;
+        private StringRedisTemplate redisTemplate;
+        private RedisService redisService;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            String host = System.getenv("REDIS_BENCHMARK_HOST");
+            if (host == null || host.isBlank()) throw new IllegalStateException("REDIS_BENCHMARK_HOST가 필요합니다.");
+            connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration(host, 6379));
+            connectionFactory.afterPropertiesSet();
+            connectionFactory.start();
+            redisTemplate = new StringRedisTemplate(connectionFactory);
+            redisService = new RedisService(redisTemplate, 5, 5000);
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() {
+            connectionFactory.destroy();
+        }
+    }
+
+    @Setup(Level.Iteration)
+    public void setUp(Redis redis) {
+        memberId = "benchmark-" + UUID.randomUUID();
+        current = "token-0";
+        rotations = 0;
+        redis.redisTemplate.opsForValue().set("FMRT: " + memberId, current, Duration.ofMillis(TTL_MS));
+        redis.redisService.startSession(memberId, SESSION_ID, current, TTL_MS);
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDown(Redis redis) {
+        redis.redisService.deleteSessions(memberId);
+    }
+
+    // 기존 방식: 동시 요청이 모두 성공할 수 있음
+    @Benchmark
+    public String getCompareSet(Redis redis) {
+        String next = "token-" + (++rotations);
+        String stored = redis.redisTemplate.opsForValue().get("FMRT: " + memberId);
+        if (!current.equals(stored)) throw new IllegalStateException("교체 실패 memberId=" + memberId);
+        redis.redisTemplate.opsForValue().set("FMRT: " + memberId, next, Duration.ofMillis(TTL_MS));
+        return current = next;
+    }
+
+    @Benchmark
+    public String luaRotate(Redis redis) {
+        String next = "token-" + (++rotations);
+        if (redis.redisService.rotateSession(memberId, SESSION_ID, current, next, TTL_MS) != ROTATED) {
+            throw new IllegalStateException("교체 실패 memberId=" + memberId);
+        }
+        return current = next;
+    }
+}
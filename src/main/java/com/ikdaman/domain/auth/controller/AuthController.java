@@ -11,6 +11,7 @@ import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
 
 import java.util.UUID;
 
@@ -29,22 +30,22 @@ public class AuthController {
      * @return
      */
     @PostMapping("/login")
-    public ResponseEntity<AuthRes> socialLogin(@RequestBody AuthReq dto,
-                                               @RequestHeader("social-token") String socialToken) {
+    public Mono<ResponseEntity<AuthRes>> socialLogin(@RequestBody AuthReq dto,
+                                                     @RequestHeader("social-token") String socialToken) {
 
-        AuthRes res = socialAuthService.login(dto, socialToken);
+        // 소셜 서버 응답을 기다리는 동안 요청 스레드를 반환 (비동기 응답)
+        return socialAuthService.login(dto, socialToken)
+                .map(res -> {
+                    HttpHeaders headers = new HttpHeaders();
+                    headers.add("Authorization", res.getAccessToekn());
+                    headers.add("refresh-token", res.getRefreshToken());
 
-        HttpHeaders headers = new HttpHeaders();
-        headers.add("Authorization", res.getAccessToekn());
-        headers.add("refresh-token", res.getRefreshToken());
-
-        res = AuthRes.builder()
-                .nickname(res.getNickname())
-                .build();
-
-        return ResponseEntity.ok()
-                .headers(headers)
-                .body(res);
+                    return ResponseEntity.ok()
+                            .headers(headers)
+                            .body(AuthRes.builder()
+                                    .nickname(res.getNickname())
+                                    .build());
+                });
     }
 
     /**
@@ -3,10 +3,11 @@ package com.ikdaman.domain.auth.service;
 import com.ikdaman.global.auth.model.Tokens;
 import com.ikdaman.global.auth.token.AuthToken;
 import com.ikdaman.global.auth.token.AuthTokenProvider;
-import com.ikdaman.global.exception.BaseException;
+import com.ikdaman.global.exception.ExpectedAuthException;
 import com.ikdaman.global.util.RedisService;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
@@ -17,6 +18,7 @@ import static com.ikdaman.global.exception.ErrorCode.INVALID_REFRESH_TOKEN;
 /**
  * 인증 서비스 구현체
  */
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class AuthService {
@@ -32,31 +34,43 @@ public class AuthService {
     @Transactional
     public Tokens reissueToken(String accessToken, String refreshToken) {
         AuthToken token = authTokenProvider.convertAuthToken(refreshToken);
-        if (!token.validate()) throw new BaseException(INVALID_REFRESH_TOKEN);
+        if (!token.validate()) throw ExpectedAuthException.of(INVALID_REFRESH_TOKEN);
 
         String memberId = token.getTokenClaims().getSubject();
+        String sessionId = token.getSessionId();
 
-        // 저장된 RefreshToken과 비교
-        String storeRefreshToken = redisService.getValues(memberId)
-                .orElseThrow(() -> new BaseException(INVALID_REFRESH_TOKEN));
-        if(!storeRefreshToken.equals(refreshToken)) {
-            throw new BaseException(INVALID_REFRESH_TOKEN);
+        AuthToken newRefreshToken;
+        if (sessionId == null) {
+            // 기기별 세션 도입 전에 발급된 토큰: 기존 키와 비교 후 새 세션으로 저장
+            if (!redisService.consumeLegacyRefreshToken(memberId, refreshToken)) throw ExpectedAuthException.of(INVALID_REFRESH_TOKEN);
+            sessionId = authTokenProvider.createSessionId();
+            newRefreshToken = authTokenProvider.createRefreshToken(memberId, sessionId);
+            redisService.startSession(memberId, sessionId, newRefreshToken.getToken(), refreshExpiry);
+        } else {
+            // 세션에 저장된 RefreshToken과 비교 후 신규 RefreshToken으로 교체
+            newRefreshToken = authTokenProvider.createRefreshToken(memberId, sessionId);
+            switch (redisService.rotateSession(memberId, sessionId, refreshToken, newRefreshToken.getToken(), refreshExpiry)) {
+                case ROTATED -> { }
+                case REUSED -> {
+                    log.warn("이미 사용된 RefreshToken 재사용 감지, 세션 폐기 memberId={}", memberId);
+                    throw ExpectedAuthException.of(INVALID_REFRESH_TOKEN);
+                }
+                // DUPLICATE: 응답을 받지 못한 클라이언트의 중복 요청, 세션은 유지되므로 먼저 발급된 토큰으로 재시도
+                default -> throw ExpectedAuthException.of(INVALID_REFRESH_TOKEN);
+            }
         }
 
-        // 신규 토큰 발급
+        // 신규 AccessToken 발급
         AuthToken newAccessToken = authTokenProvider.createUserAppToken(memberId);
-        AuthToken newRefreshToken = authTokenProvider.createRefreshToken(memberId);
-        Tokens tokens = Tokens.builder()
+        return Tokens.builder()
                 .accessToken(newAccessToken.getToken())
                 .refreshToken(newRefreshToken.getToken())
                 .build();
-        redisService.setValuesWithTimeout(memberId, newRefreshToken.getToken(), refreshExpiry);
-
-        return tokens;
     }
 
+    // 모든 기기의 세션 삭제
     @Transactional
     public void logout(UUID memberId) {
-        redisService.deleteValues(String.valueOf(memberId));
+        redisService.deleteSessions(String.valueOf(memberId));
     }
 }
@@ -0,0 +1,29 @@
+package com.ikdaman.domain.auth.service;
+
+import com.ikdaman.global.util.RedisService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 토큰 원문으로 저장된 이전 형식 RefreshToken 키(FMRT: )를 fingerprint 키(rl:)로 이동
+ * - auth.refresh-session.migrate=true 로 기동한 경우에만 실행
+ * - 옮기지 못한 키도 재발급 요청 시 새 형식으로 옮겨지므로 실행하지 않아도 동작에는 문제없음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "auth.refresh-session.migrate", havingValue = "true")
+public class RefreshSessionMigrationRunner implements ApplicationRunner {
+
+    private final RedisService redisService;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        long migrated = redisService.migrateLegacyKeys();
+        log.info("RefreshToken 키 이동 완료: {}건", migrated);
+    }
+}
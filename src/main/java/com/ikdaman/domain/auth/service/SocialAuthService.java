@@ -6,56 +6,68 @@ import com.ikdaman.domain.member.entity.Member;
 import com.ikdaman.global.auth.enumerate.Provider;
 import com.ikdaman.domain.member.repository.MemberRepository;
 import com.ikdaman.domain.member.service.MemberService;
+import com.ikdaman.domain.member.service.NicknameAllocator;
 import com.ikdaman.global.auth.token.AuthToken;
 import com.ikdaman.global.auth.token.AuthTokenProvider;
-import com.ikdaman.global.exception.BaseException;
+import com.ikdaman.global.exception.ExpectedAuthException;
 import com.ikdaman.global.util.RandomNickname;
 import com.ikdaman.global.util.RedisService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
 
 import static com.ikdaman.global.exception.ErrorCode.NOT_MATCH_TOKEN_PROVIDER;
 
 /**
  * 통합 소셜 로그인 서비스
+ * - 소셜 토큰 검증은 논블로킹으로 수행해 요청 스레드를 점유하지 않음
+ * - 검증 이후 회원 조회/생성과 토큰 발급(DB, Redis)은 blockingScheduler(boundedElastic 또는 가상 스레드)에서 한 트랜잭션으로 수행
  */
 @Service
 @RequiredArgsConstructor
-@Transactional
 public class SocialAuthService implements SocialService {
 
     private final SocialTokenValidator tokenValidator;
     private final MemberRepository memberRepository;
     private final MemberService memberService;
     private final RandomNickname randomNickname;
+    private final NicknameAllocator nicknameAllocator;
     private final AuthTokenProvider authTokenProvider;
     private final RedisService redisService;
+    private final TransactionTemplate transactionTemplate;
+    private final Scheduler blockingScheduler; // boundedElastic 또는 가상 스레드 (SocialClientConfig)
 
     @Value("${auth.refresh-token-validity}")
     private long refreshExpiry; // RefreshToken 만료일
 
     @Override
-    public AuthRes login(AuthReq req, String socialToken) {
+    public Mono<AuthRes> login(AuthReq req, String socialToken) {
 
         // 1. Provider 문자열 → Enum 변환
         Provider provider = Provider.from(req.getProvider());
 
         // 2. 토큰 검증 및 providerId(sub) 추출
-        String providerIdFromToken = tokenValidator.validate(provider, socialToken);
+        return tokenValidator.validate(provider, socialToken)
+                .publishOn(blockingScheduler)
+                .map(providerIdFromToken -> {
+                    // 3. 요청의 providerId와 토큰에서 추출한 providerId 일치 검증
+                    if (!req.getProviderId().equals(providerIdFromToken)) throw ExpectedAuthException.of(NOT_MATCH_TOKEN_PROVIDER);
 
-        // 3. 요청의 providerId와 토큰에서 추출한 providerId 일치 검증
-        if (!req.getProviderId().equals(providerIdFromToken)) throw new BaseException(NOT_MATCH_TOKEN_PROVIDER);
+                    return transactionTemplate.execute(status -> issueTokens(provider, providerIdFromToken));
+                });
+    }
 
+    private AuthRes issueTokens(Provider provider, String providerIdFromToken) {
         // 4. 회원 조회(없으면 생성)
         Member member = memberRepository
                 .findBySocialTypeAndProviderId(Member.SocialType.valueOf(provider.name()), providerIdFromToken)
                 .orElseGet(() -> {
-                    String nickname;
-                    do {
-                        nickname = randomNickname.generate();
-                    } while (!memberService.isAvailableNickname(nickname)); // 닉네임 중복되면 다시 생성
+                    // 중복 없는 랜덤 닉네임 할당 (Redis를 사용할 수 없으면 DB에서 중복 확인)
+                    String nickname = nicknameAllocator.allocate()
+                            .orElseGet(this::generateAvailableNickname);
 
                     // 신규 회원 저장
                     Member newMember = Member.builder()
@@ -66,11 +78,12 @@ public class SocialAuthService implements SocialService {
                     return memberRepository.save(newMember);
                 });
 
-        // 5. 토큰 발급 및 리프레시 토큰 Redis 저장
+        // 5. 토큰 발급 및 리프레시 토큰 Redis 저장 (기기별 세션)
         String key = String.valueOf(member.getMemberId());
+        String sessionId = authTokenProvider.createSessionId();
         AuthToken accessToken = authTokenProvider.createUserAppToken(key);
-        AuthToken refreshToken = authTokenProvider.createRefreshToken(key);
-        redisService.setValuesWithTimeout(key, refreshToken.getToken(), refreshExpiry);
+        AuthToken refreshToken = authTokenProvider.createRefreshToken(key, sessionId);
+        redisService.startSession(key, sessionId, refreshToken.getToken(), refreshExpiry);
 
         return AuthRes.builder()
                 .accessToekn(accessToken.getToken())
@@ -78,4 +91,14 @@ public class SocialAuthService implements SocialService {
                 .nickname(member.getNickname())
                 .build();
     }
+
+    private String generateAvailableNickname() {
+        String nickname;
+        do {
+            nickname = randomNickname.generate();
+            // 닉네임 중복되거나 다른 회원에게 할당 중이면 다시 생성
+        } while (!memberService.isAvailableNickname(nickname) || !nicknameAllocator.claim(nickname));
+
+        return nickname;
+    }
 }
@@ -2,7 +2,8 @@ package com.ikdaman.domain.auth.service;
 
 import com.ikdaman.domain.auth.model.AuthReq;
 import com.ikdaman.domain.auth.model.AuthRes;
+import reactor.core.publisher.Mono;
 
 public interface SocialService {
-    AuthRes login(AuthReq dto, String socialToken);
+    Mono<AuthRes> login(AuthReq dto, String socialToken);
 } 
\ No newline at end of file
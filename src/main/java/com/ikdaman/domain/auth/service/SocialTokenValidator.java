@@ -1,29 +1,102 @@
 package com.ikdaman.domain.auth.service;
 
+import com.ikdaman.global.auth.client.SocialClientResilience;
+import com.ikdaman.global.auth.client.SocialProviderIdCache;
 import com.ikdaman.global.auth.enumerate.Provider;
 import com.ikdaman.global.auth.client.SocialTokenClient;
 import com.ikdaman.global.exception.BaseException;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
 
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.List;
 import java.util.Map;
 
 import static com.ikdaman.global.exception.ErrorCode.INVALID_SOCIAL_PROVIDER;
 
 /**
  * Provider에 맞는 SocialTokenClient를 찾아 토큰을 검증하고 providerId를 추출
+ * - 제공자별 timeout, 동시 호출 수 제한, 서킷 브레이커, 재시도 적용 (SocialClientResilience)
+ *   한 제공자가 느려지거나 장애가 나도 다른 제공자의 로그인과 서버 자원에 영향이 없도록 함
+ * - 같은 토큰의 반복 요청은 SocialProviderIdCache에서 처리
+ * - 검증 소요 시간을 auth.social.validate 타이머로 기록 (provider, outcome: success, invalid, error)
  */
+@Slf4j
 @Service
-@RequiredArgsConstructor
 public class SocialTokenValidator {
 
-    private final Map<String, SocialTokenClient> clients;
+    private final Map<Provider, SocialTokenClient> clients = new EnumMap<>(Provider.class);
+    private final Map<Provider, Timers> timers = new EnumMap<>(Provider.class);
+    private final SocialClientResilience resilience;
+    private final SocialProviderIdCache providerIdCache;
 
-    public String validate(Provider provider, String token) {
-        SocialTokenClient client = clients.values().stream()
-                .filter(c -> c.provider() == provider)
-                .findFirst().orElse(null);
-        if (client == null) throw new BaseException(INVALID_SOCIAL_PROVIDER);
-        return client.extractProviderId(token);
+    public SocialTokenValidator(List<SocialTokenClient> clients, SocialClientResilience resilience,
+                                SocialProviderIdCache providerIdCache, MeterRegistry meterRegistry) {
+        this.resilience = resilience;
+        this.providerIdCache = providerIdCache;
+
+        // 제공자마다 클라이언트가 정확히 하나씩 있어야 기동
+        for (SocialTokenClient client : clients) {
+            SocialTokenClient duplicate = this.clients.put(client.provider(), client);
+            if (duplicate != null) {
+                throw new IllegalStateException(client.provider() + " SocialTokenClient 중복: "
+                        + duplicate.getClass().getSimpleName() + ", " + client.getClass().getSimpleName());
+            }
+        }
+        for (Provider provider : Provider.values()) {
+            if (!this.clients.containsKey(provider)) {
+                throw new IllegalStateException(provider + " SocialTokenClient가 없습니다.");
+            }
+            timers.put(provider, Timers.of(provider, meterRegistry));
+        }
+    }
+
+    public Mono<String> validate(Provider provider, String token) {
+        if (provider == null) return Mono.error(new BaseException(INVALID_SOCIAL_PROVIDER));
+        SocialTokenClient client = clients.get(provider);
+        Timers timer = timers.get(provider);
+
+        return Mono.defer(() -> {
+            long start = System.nanoTime();
+            // 차단(서킷 open), 동시 호출 수 초과, timeout은 모두 제공자 서버 오류로 응답
+            return providerIdCache.get(provider, token,
+                            () -> resilience.decorate(provider, Mono.defer(() -> client.fetchProviderId(token))))
+                    .onErrorMap(e -> !(e instanceof BaseException), e -> {
+                        log.warn("{} 토큰 검증 호출 실패: {}", provider, e.toString());
+                        return new BaseException(provider.getServerError());
+                    })
+                    .doOnSuccess(providerId -> timer.success().record(elapsedSince(start)))
+                    .doOnError(e -> timer.failure(provider, e).record(elapsedSince(start)));
+        });
+    }
+
+    private static Duration elapsedSince(long start) {
+        return Duration.ofNanos(System.nanoTime() - start);
+    }
+
+    private record Timers(Timer success, Timer invalid, Timer error) {
+
+        static Timers of(Provider provider, MeterRegistry meterRegistry) {
+            return new Timers(timer(provider, "success", meterRegistry),
+                    timer(provider, "invalid", meterRegistry),
+                    timer(provider, "error", meterRegistry));
+        }
+
+        // 제공자 장애는 error, 그 외(잘못된 토큰 등)는 invalid
+        Timer failure(Provider provider, Throwable e) {
+            return (e instanceof BaseException be && be.getErrorCode() != provider.getServerError()) ? invalid : error;
+        }
+
+        private static Timer timer(Provider provider, String outcome, MeterRegistry meterRegistry) {
+            return Timer.builder("auth.social.validate")
+                    .tag("provider", provider.name())
+                    .tag("outcome", outcome)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry);
+        }
     }
 }
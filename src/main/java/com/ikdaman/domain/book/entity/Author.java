@@ -15,6 +15,7 @@ import org.hibernate.annotations.DynamicUpdate;
 @Builder
 @DynamicInsert
 @DynamicUpdate
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_author_book_writer", columnNames = {"book_id", "writer_id"}))
 public class Author extends BaseTime {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
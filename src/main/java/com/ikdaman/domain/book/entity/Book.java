@@ -1,6 +1,7 @@
 package com.ikdaman.domain.book.entity;
 
 import com.ikdaman.global.common.BaseTime;
+import com.ikdaman.global.util.HangulUtils;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Builder;
@@ -17,7 +18,10 @@ import java.util.List;
 @Builder
 @DynamicInsert
 @DynamicUpdate
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_book_isbn", columnNames = "isbn"))
 public class Book extends BaseTime {
+    public static final String AUTHORS_DELIMITER = ", ";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     @Column(name = "book_id")
@@ -26,6 +30,9 @@ public class Book extends BaseTime {
     @Column(nullable = false, length = 255)
     private String title;
 
+    @Column(name = "title_choseong", length = 255)
+    private String titleChoseong; // 초성 검색용 (title에서 자동 생성)
+
     @Column(nullable = false, length = 100)
     private String publisher;
 
@@ -44,19 +51,30 @@ public class Book extends BaseTime {
     @Column(name = "aladin_item_id")
     private String aladinItemId;
 
+    @Column(name = "authors_display", length = 500)
+    private String authorsDisplay; // 작가명 목록 (Ex. "작가1, 작가2"), Author/Writer 조인 없이 읽기 위해 유지
+
     @OneToMany(mappedBy = "book", fetch = FetchType.LAZY)
     private List<Author> author;
 
     @Builder
-    public Book(int bookId, String title, String publisher, String isbn, int page, String coverImage, int categoryId, String aladinItemId, List<Author> author) {
+    public Book(int bookId, String title, String titleChoseong, String publisher, String isbn, int page, String coverImage, int categoryId, String aladinItemId, String authorsDisplay, List<Author> author) {
         this.bookId = bookId;
         this.title = title;
+        this.titleChoseong = titleChoseong;
         this.publisher = publisher;
         this.isbn = isbn;
         this.page = page;
         this.coverImage = coverImage;
         this.categoryId = categoryId;
         this.aladinItemId = aladinItemId;
+        this.authorsDisplay = authorsDisplay;
         this.author = author;
     }
+
+    @PrePersist
+    @PreUpdate
+    private void updateTitleChoseong() {
+        this.titleChoseong = HangulUtils.toChoseong(title);
+    }
 }
\ No newline at end of file
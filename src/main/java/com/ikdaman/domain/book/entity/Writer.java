@@ -1,6 +1,7 @@
 package com.ikdaman.domain.book.entity;
 
 import com.ikdaman.global.common.BaseTime;
+import com.ikdaman.global.util.HangulUtils;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Builder;
@@ -15,6 +16,7 @@ import org.hibernate.annotations.DynamicUpdate;
 @Builder
 @DynamicInsert
 @DynamicUpdate
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_writer_name", columnNames = "writer_name"))
 public class Writer extends BaseTime {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -24,9 +26,19 @@ public class Writer extends BaseTime {
     @Column(name = "writer_name", nullable = false, length = 100)
     private String writerName;
 
+    @Column(name = "writer_name_choseong", length = 100)
+    private String writerNameChoseong; // 초성 검색용 (writerName에서 자동 생성)
+
     @Builder
-    public Writer(int writerId, String writerName) {
+    public Writer(int writerId, String writerName, String writerNameChoseong) {
         this.writerId = writerId;
         this.writerName = writerName;
+        this.writerNameChoseong = writerNameChoseong;
+    }
+
+    @PrePersist
+    @PreUpdate
+    private void updateWriterNameChoseong() {
+        this.writerNameChoseong = HangulUtils.toChoseong(writerName);
     }
 }
\ No newline at end of file
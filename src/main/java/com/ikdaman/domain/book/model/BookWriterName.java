@@ -0,0 +1,9 @@
+package com.ikdaman.domain.book.model;
+
+/**
+ * 책 ID별 작가명 프로젝션
+ */
+public interface BookWriterName {
+    Integer getBookId();
+    String getWriterName();
+}
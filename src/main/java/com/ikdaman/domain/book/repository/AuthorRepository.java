@@ -3,12 +3,36 @@ package com.ikdaman.domain.book.repository;
 
 import com.ikdaman.domain.book.entity.Author;
 import com.ikdaman.domain.book.entity.Book;
-import com.ikdaman.domain.book.entity.Writer;
+import com.ikdaman.domain.book.model.BookWriterName;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface AuthorRepository extends JpaRepository<Author, Long> {
-    boolean existsByBookAndWriter(Book book, Writer writer);
     Optional<Author> findByBook(Book book);
+
+    // 여러 책의 작가명을 한 번에 조회 (등록 순서 유지)
+    @Query("""
+        SELECT a.book.bookId AS bookId, w.writerName AS writerName
+        FROM Author a
+        JOIN a.writer w
+        WHERE a.book.bookId IN :bookIds
+        ORDER BY a.authorId
+    """)
+    List<BookWriterName> findWriterNamesByBookIds(@Param("bookIds") Collection<Integer> bookIds);
+
+    // 책-작가 연결 (이미 있으면 무시), 반환값: 새로 연결된 행 수
+    @Modifying
+    @Query(value = """
+        INSERT INTO author (book_id, writer_id, created_at, updated_at)
+        VALUES (:bookId, :writerId, now(), now())
+        ON CONFLICT (book_id, writer_id) DO NOTHING
+    """, nativeQuery = true)
+    int linkAuthor(@Param("bookId") int bookId,
+                   @Param("writerId") int writerId);
 }
@@ -2,9 +2,71 @@ package com.ikdaman.domain.book.repository;
 
 import com.ikdaman.domain.book.entity.Book;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.Optional;
 
 public interface BookRepository extends JpaRepository<Book, Long> {
-    Optional<Book> findByIsbn(String isbn);
+    @Query("SELECT b.bookId FROM Book b WHERE b.isbn = :isbn")
+    Optional<Integer> findIdByIsbn(@Param("isbn") String isbn);
+
+    // 책 등록 후 ID 반환 (ISBN이 이미 있으면 기존 ID)
+    // 같은 ISBN을 동시에 등록 중인 트랜잭션이 먼저 커밋한 경우 같은 스냅샷에서는 보이지 않으므로 빈 값 반환
+    @Query(value = """
+        WITH inserted AS (
+            INSERT INTO book (title, title_choseong, publisher, isbn, page, cover_image, category_id,
+                              aladin_item_id, authors_display, created_at, updated_at)
+            VALUES (:title, :titleChoseong, :publisher, :isbn, :page, :coverImage, 0,
+                    :aladinItemId, :authorsDisplay, now(), now())
+            ON CONFLICT (isbn) DO NOTHING
+            RETURNING book_id
+        )
+        SELECT book_id FROM inserted
+        UNION ALL
+        SELECT book_id FROM book WHERE isbn = :isbn
+        LIMIT 1
+    """, nativeQuery = true)
+    Optional<Integer> upsertBook(@Param("title") String title,
+                                 @Param("titleChoseong") String titleChoseong,
+                                 @Param("publisher") String publisher,
+                                 @Param("isbn") String isbn,
+                                 @Param("page") int page,
+                                 @Param("coverImage") String coverImage,
+                                 @Param("aladinItemId") String aladinItemId,
+                                 @Param("authorsDisplay") String authorsDisplay);
+
+    // 작가 테이블 기준으로 authors_display 다시 생성 (컬럼 길이 500자를 넘으면 자름)
+    @Modifying
+    @Query(value = """
+        UPDATE book b
+        SET authors_display = (
+            SELECT left(string_agg(w.writer_name, ', ' ORDER BY a.author_id), 500)
+            FROM author a
+            JOIN writer w ON w.writer_id = a.writer_id
+            WHERE a.book_id = b.book_id
+        )
+        WHERE b.book_id = :bookId
+    """, nativeQuery = true)
+    int refreshAuthorsDisplay(@Param("bookId") int bookId);
+
+    // authors_display가 비어 있는 책을 batchSize만큼 작가 테이블 기준으로 채움
+    @Modifying
+    @Query(value = """
+        UPDATE book b
+        SET authors_display = (
+            SELECT left(string_agg(w.writer_name, ', ' ORDER BY a.author_id), 500)
+            FROM author a
+            JOIN writer w ON w.writer_id = a.writer_id
+            WHERE a.book_id = b.book_id
+        )
+        WHERE b.book_id IN (
+            SELECT bb.book_id FROM book bb
+            WHERE bb.authors_display IS NULL
+                AND EXISTS (SELECT 1 FROM author a WHERE a.book_id = bb.book_id)
+            LIMIT :batchSize
+        )
+    """, nativeQuery = true)
+    int backfillAuthorsDisplay(@Param("batchSize") int batchSize);
 }
@@ -2,9 +2,29 @@ package com.ikdaman.domain.book.repository;
 
 import com.ikdaman.domain.book.entity.Writer;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.Optional;
 
 public interface WriterRepository extends JpaRepository<Writer, Long> {
-    Optional<Writer> findByWriterName(String writerName);
+    // 작가 등록 후 ID 반환 (이미 있으면 기존 ID)
+    // 같은 이름을 동시에 등록 중인 트랜잭션이 먼저 커밋한 경우 같은 스냅샷에서는 보이지 않으므로 빈 값 반환
+    @Query(value = """
+        WITH inserted AS (
+            INSERT INTO writer (writer_name, writer_name_choseong, created_at, updated_at)
+            VALUES (:writerName, :writerNameChoseong, now(), now())
+            ON CONFLICT (writer_name) DO NOTHING
+            RETURNING writer_id
+        )
+        SELECT writer_id FROM inserted
+        UNION ALL
+        SELECT writer_id FROM writer WHERE writer_name = :writerName
+        LIMIT 1
+    """, nativeQuery = true)
+    Optional<Integer> upsertWriter(@Param("writerName") String writerName,
+                                   @Param("writerNameChoseong") String writerNameChoseong);
+
+    @Query("SELECT w.writerId FROM Writer w WHERE w.writerName = :writerName")
+    Optional<Integer> findIdByWriterName(@Param("writerName") String writerName);
 }
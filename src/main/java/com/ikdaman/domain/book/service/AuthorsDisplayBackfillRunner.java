@@ -0,0 +1,41 @@
+package com.ikdaman.domain.book.service;
+
+import com.ikdaman.domain.book.repository.BookRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 기존 책의 authors_display 백필
+ * - book.authors-display.backfill=true 로 기동한 경우에만 실행
+ * - batchSize 단위로 나누어 커밋 (긴 트랜잭션/락 방지)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "book.authors-display.backfill", havingValue = "true")
+public class AuthorsDisplayBackfillRunner implements ApplicationRunner {
+
+    private final BookRepository bookRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${book.authors-display.backfill-batch-size:1000}")
+    private int batchSize;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        long total = 0;
+        int updated;
+        do {
+            updated = transactionTemplate.execute(status -> bookRepository.backfillAuthorsDisplay(batchSize));
+            total += updated;
+        } while (updated > 0);
+
+        log.info("authors_display 백필 완료: {}건", total);
+    }
+}
@@ -0,0 +1,14 @@
+package com.ikdaman.domain.book.service;
+
+import com.ikdaman.domain.mybook.model.MyBookReq;
+
+/**
+ * 책 카탈로그(책/작가/책-작가 연결) 등록 서비스
+ */
+public interface BookCatalogService {
+
+    /**
+     * 책/작가를 등록하고 책 ID 반환 (이미 있으면 기존 데이터 사용, 동시 등록에도 중복 생성되지 않음)
+     */
+    int registerBook(MyBookReq dto);
+}
@@ -0,0 +1,57 @@
+package com.ikdaman.domain.book.service;
+
+import com.ikdaman.domain.book.repository.AuthorRepository;
+import com.ikdaman.domain.book.repository.BookRepository;
+import com.ikdaman.domain.book.repository.WriterRepository;
+import com.ikdaman.domain.mybook.model.MyBookReq;
+import com.ikdaman.global.exception.BaseException;
+import com.ikdaman.global.util.HangulUtils;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import static com.ikdaman.global.exception.ErrorCode.DATABASE_ERROR;
+
+/**
+ * 책 카탈로그 등록 서비스 구현체
+ * - writer(writer_name), book(isbn), author(book_id, writer_id) 유니크 키 기준 INSERT ... ON CONFLICT
+ * - 조회 후 저장하지 않으므로 같은 책을 동시에 추가해도 중복 행이 생기지 않음
+ */
+@Service
+@RequiredArgsConstructor
+public class BookCatalogServiceImpl implements BookCatalogService {
+
+    private final BookRepository bookRepository;
+    private final WriterRepository writerRepository;
+    private final AuthorRepository authorRepository;
+
+    @Override
+    @Transactional
+    public int registerBook(MyBookReq dto) {
+        String writerName = dto.getWriter();
+
+        // 빈 값이면 동시에 등록한 트랜잭션이 먼저 커밋한 경우이므로 새 스냅샷으로 다시 조회
+        int writerId = writerRepository.upsertWriter(writerName, HangulUtils.toChoseong(writerName))
+                .or(() -> writerRepository.findIdByWriterName(writerName))
+                .orElseThrow(() -> new BaseException(DATABASE_ERROR));
+
+        int bookId = bookRepository.upsertBook(
+                        dto.getTitle(),
+                        HangulUtils.toChoseong(dto.getTitle()),
+                        dto.getPublisher(),
+                        dto.getIsbn(),
+                        dto.getPage(),
+                        dto.getCoverImage(),
+                        String.valueOf(dto.getItemId()),
+                        writerName)
+                .or(() -> bookRepository.findIdByIsbn(dto.getIsbn()))
+                .orElseThrow(() -> new BaseException(DATABASE_ERROR));
+
+        // 새로 연결된 경우에만 작가 테이블 기준으로 authors_display 다시 생성 (중복 작가명 없음)
+        if (authorRepository.linkAuthor(bookId, writerId) > 0) {
+            bookRepository.refreshAuthorsDisplay(bookId);
+        }
+
+        return bookId;
+    }
+}
@@ -10,6 +10,7 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
@@ -26,7 +27,8 @@ import org.hibernate.annotations.DynamicUpdate;
 @Setter
 public class BookLog extends BaseTime {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "book_log_seq")
+    @SequenceGenerator(name = "book_log_seq", sequenceName = "book_log_seq", allocationSize = 50) // JDBC 배치 INSERT를 위해 ID를 미리 할당
     private Long booklogId;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -0,0 +1,17 @@
+package com.ikdaman.domain.bookLog.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 기록 목록 커서 조회 응답
+ */
+@Getter
+@AllArgsConstructor
+public class BookLogCursorRes {
+    private List<BookLogListRes.BookLogDTO> booklogs;
+    private String nextCursor; // 다음 페이지 요청 시 전달할 커서 (마지막 페이지면 null)
+    private boolean hasNext;
+}
@@ -0,0 +1,9 @@
+package com.ikdaman.domain.bookLog.model;
+
+/**
+ * 나의 책별 첫인상 조회용 프로젝션
+ */
+public interface MyBookImpression {
+    Integer getMybookId();
+    String getContent();
+}
@@ -1,15 +1,54 @@
 package com.ikdaman.domain.bookLog.repository;
 
 import com.ikdaman.domain.bookLog.entity.BookLog;
+import com.ikdaman.domain.bookLog.model.MyBookImpression;
 import com.ikdaman.domain.mybook.entity.MyBook;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface BookLogRepository extends JpaRepository<BookLog, Long> {
     Optional<BookLog> findFirstByMyBookAndBooklogType(MyBook myBook, String booklogType);
     Page<BookLog> findByMyBook_MybookId(Long mybookId, Pageable pageable);
     void deleteByMyBook(MyBook myBook);
+
+    // 기록 커서 조회 - 첫 페이지
+    @Query("""
+        SELECT bl FROM BookLog bl
+        WHERE bl.myBook.mybookId = :mybookId
+        ORDER BY bl.createdAt DESC, bl.booklogId DESC
+    """)
+    List<BookLog> findFirstByMybookId(@Param("mybookId") Long mybookId, Limit limit);
+
+    // 기록 커서 조회 - (createdAt, booklogId) 이후
+    @Query("""
+        SELECT bl FROM BookLog bl
+        WHERE bl.myBook.mybookId = :mybookId
+            AND (
+                bl.createdAt < :cursorCreatedAt OR
+                (bl.createdAt = :cursorCreatedAt AND bl.booklogId < :cursorId)
+            )
+        ORDER BY bl.createdAt DESC, bl.booklogId DESC
+    """)
+    List<BookLog> findAfterByMybookId(@Param("mybookId") Long mybookId,
+                                      @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+                                      @Param("cursorId") Long cursorId,
+                                      Limit limit);
+
+    // 여러 나의 책의 첫인상을 한 번에 조회 (작성 순)
+    @Query("""
+        SELECT bl.myBook.mybookId AS mybookId, bl.content AS content FROM BookLog bl
+        WHERE bl.myBook.mybookId IN :mybookIds
+            AND bl.booklogType = 'IMPRESSION'
+        ORDER BY bl.booklogId
+    """)
+    List<MyBookImpression> findImpressionsByMybookIds(@Param("mybookIds") Collection<Integer> mybookIds);
 }
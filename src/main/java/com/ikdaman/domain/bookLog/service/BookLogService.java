@@ -6,7 +6,7 @@ import com.ikdaman.domain.bookLog.model.CompletedReq;
 import com.ikdaman.domain.bookLog.model.UpdateBookLogReq;
 
 public interface BookLogService {
-    BookLog addBookLog(Long myBookId, BookLogReq request);
+    void addBookLog(Long myBookId, BookLogReq request);
 
     BookLog updateBookLog(Long myBookId, Long bookLogId, UpdateBookLogReq request);
 
@@ -8,11 +8,14 @@ import com.ikdaman.domain.bookLog.model.UpdateBookLogReq;
 import com.ikdaman.domain.bookLog.repository.BookLogRepository;
 import com.ikdaman.domain.mybook.entity.MyBook;
 import com.ikdaman.domain.mybook.repository.MyBookRepository;
+import com.ikdaman.domain.mybook.service.HomeSnapshotCache;
 import com.ikdaman.global.exception.BaseException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.UUID;
+
 import static com.ikdaman.global.exception.ErrorCode.NOT_FOUND_MY_BOOK;
 
 @Service
@@ -21,10 +24,29 @@ public class BookLogServiceImpl implements BookLogService {
 
     private final BookLogRepository bookLogRepository;
     private final MyBookRepository myBookRepository;
+    private final HomeSnapshotCache homeSnapshotCache;
+    private final BookLogWriteBuffer bookLogWriteBuffer;
 
     @Override
     @Transactional
-    public BookLog addBookLog(Long myBookId, BookLogReq request) {
+    public void addBookLog(Long myBookId, BookLogReq request) {
+        // 쓰기 지연 사용 시 나의 책 존재 여부만 확인하고 버퍼에 저장
+        if (bookLogWriteBuffer.isEnabled()) {
+            UUID memberId = myBookRepository.findMemberIdByMybookId(myBookId.intValue())
+                    .orElseThrow(() -> new BaseException(NOT_FOUND_MY_BOOK));
+            if (!bookLogWriteBuffer.enqueue(myBookId, memberId, request)) {
+                // 버퍼가 가득 찬 경우 기록만 바로 저장 (현재 페이지는 버퍼에서 저장)
+                bookLogRepository.save(BookLog.builder()
+                        .myBook(myBookRepository.getReferenceById(myBookId))
+                        .page(request.getPage())
+                        .content(request.getContent())
+                        .booklogType(BookLogType.THINK.name())
+                        .build());
+                homeSnapshotCache.evictAfterCommit(memberId);
+            }
+            return;
+        }
+
         MyBook myBook = myBookRepository.findById(myBookId)
                 .orElseThrow(() -> new BaseException(NOT_FOUND_MY_BOOK));
 
@@ -35,12 +57,11 @@ public class BookLogServiceImpl implements BookLogService {
                 .booklogType(BookLogType.THINK.name())
                 .build();
 
-        BookLog insertedBookLog = bookLogRepository.save(bookLog);
+        bookLogRepository.save(bookLog);
 
         myBook.updateNowPage(request.getPage());
         myBookRepository.save(myBook);
-
-        return insertedBookLog;
+        homeSnapshotCache.evictAfterCommit(myBook.getMemberId());
     }
 
     @Override
@@ -50,6 +71,7 @@ public class BookLogServiceImpl implements BookLogService {
                 .orElseThrow(() -> new BaseException(NOT_FOUND_MY_BOOK));
 
         bookLog.setContent(request.getContent());
+        evictHomeSnapshotIfImpression(bookLog);
         return bookLogRepository.save(bookLog);
     }
 
@@ -59,11 +81,18 @@ public class BookLogServiceImpl implements BookLogService {
                 .orElseThrow(() -> new BaseException(NOT_FOUND_MY_BOOK));
 
         bookLogRepository.delete(bookLog);
+        evictHomeSnapshotIfImpression(bookLog);
     }
 
     // 완독
     @Override
     public BookLog addCompleted(Long myBookId, CompletedReq request) {
+        // 버퍼에 남은 현재 페이지 변경이 완독 이후에 덮어쓰지 않도록 먼저 저장
+        // (이 서버의 버퍼만 저장됨, 다른 서버에 남은 변경은 완독된 책에 적용되지 않음 - BookLogWriteBuffer 참고)
+        if (bookLogWriteBuffer.isEnabled()) {
+            bookLogWriteBuffer.flush();
+        }
+
         MyBook myBook = myBookRepository.findById(myBookId)
                 .orElseThrow(() -> new BaseException(NOT_FOUND_MY_BOOK));
 
@@ -78,6 +107,7 @@ public class BookLogServiceImpl implements BookLogService {
         
         myBook.updateNowPage(myBook.getBook().getPage());
         myBookRepository.save(myBook);
+        homeSnapshotCache.evictAfterCommit(myBook.getMemberId());
 
         return insertedBookLog;
     }
@@ -98,4 +128,11 @@ public class BookLogServiceImpl implements BookLogService {
 
         bookLogRepository.delete(bookLog);
     }
+
+    // 첫인상은 홈 화면에 노출되므로 변경 시 스냅샷 삭제
+    private void evictHomeSnapshotIfImpression(BookLog bookLog) {
+        if (BookLogType.IMPRESSION.name().equals(bookLog.getBooklogType())) {
+            homeSnapshotCache.evictAfterCommit(bookLog.getMyBook().getMemberId());
+        }
+    }
 }
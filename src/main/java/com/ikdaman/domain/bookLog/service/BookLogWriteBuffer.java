@@ -0,0 +1,265 @@
+package com.ikdaman.domain.bookLog.service;
+
+import com.ikdaman.domain.bookLog.entity.BookLog;
+import com.ikdaman.domain.bookLog.model.BookLogReq;
+import com.ikdaman.domain.bookLog.model.BookLogType;
+import com.ikdaman.domain.mybook.entity.MyBook;
+import com.ikdaman.domain.mybook.service.HomeSnapshotCache;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Session;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 기록(생각) 쓰기 지연 버퍼
+ * - booklog.write-behind.enabled=true 인 경우에만 사용
+ * - 요청 스레드는 버퍼에 넣기만 하고, flush-interval-ms 마다 별도 트랜잭션(REQUIRES_NEW)으로 모아서 저장
+ *   (요청 트랜잭션의 영속성 컨텍스트, 롤백과 무관)
+ * - 주기 저장은 enabled인 경우에만 스케줄러에 등록
+ * - BookLog INSERT는 JDBC 배치로 보내고, 같은 나의 책의 now_page 변경은 마지막 값 하나로 합쳐 UPDATE
+ * - 대기 중인 기록이 max-pending에 도달하면 스케줄러에 바로 저장을 요청하고,
+ *   가득 찬 동안 들어온 기록은 버퍼에 넣지 않음 (호출한 쪽에서 직접 저장, now_page는 계속 버퍼에서 합침)
+ *
+ * 내구성
+ * - 버퍼는 서버 메모리에만 있으므로 정상 종료 시에는 남은 기록을 모두 저장
+ * - 프로세스가 비정상 종료되면 마지막 flush 이후 받은 기록(최대 flush-interval-ms)이 유실될 수 있음
+ * - 일괄 저장이 실패하면 건별로 다시 저장하고, 그래도 실패한 기록만 버림 (booklog.write-behind.dropped)
+ * - 기록의 created_at은 요청 시각이 아닌 저장 시각이며, 저장 전에는 기록 조회에 보이지 않음
+ *
+ * 여러 서버에서 실행하는 경우
+ * - 버퍼는 서버별이므로 완독 처리 전 flush()는 그 서버의 버퍼만 저장함
+ * - 다른 서버에 남아 있던 now_page 변경이 완독 이후에 덮어쓰지 않도록, REVIEW 기록이 있는 나의 책은 UPDATE하지 않음
+ */
+@Slf4j
+@Component
+public class BookLogWriteBuffer {
+
+    private static final String UPDATE_NOW_PAGE_SQL =
+            "UPDATE my_book SET now_page = ?, updated_at = ? WHERE mybook_id = ?"
+                    + " AND NOT EXISTS (SELECT 1 FROM book_log WHERE mybook_id = ? AND booklog_type = 'REVIEW')";
+
+    private final Queue<PendingBookLog> pendingLogs = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pendingCount = new AtomicInteger();
+    private final Map<Long, PendingNowPage> pendingNowPages = new ConcurrentHashMap<>();
+    // synchronized 대신 사용 (DB 저장 중 대기하는 가상 스레드가 캐리어 스레드를 점유하지 않도록)
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private final AtomicBoolean flushRequested = new AtomicBoolean();
+
+    private final EntityManager entityManager;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final TaskScheduler taskScheduler;
+    private final HomeSnapshotCache homeSnapshotCache;
+    private final boolean enabled;
+    private final int batchSize;
+    private final int maxPending;
+    private final Duration flushInterval;
+    private ScheduledFuture<?> scheduledFlush;
+
+    private final Counter flushedCounter;
+    private final Counter droppedCounter;
+
+    public BookLogWriteBuffer(EntityManager entityManager,
+                              JdbcTemplate jdbcTemplate,
+                              PlatformTransactionManager transactionManager,
+                              TaskScheduler taskScheduler,
+                              HomeSnapshotCache homeSnapshotCache,
+                              MeterRegistry meterRegistry,
+                              @Value("${booklog.write-behind.enabled:false}") boolean enabled,
+                              @Value("${booklog.write-behind.batch-size:50}") int batchSize,
+                              @Value("${booklog.write-behind.max-pending:5000}") int maxPending,
+                              @Value("${booklog.write-behind.flush-interval-ms:1000}") long flushIntervalMs) {
+        this.entityManager = entityManager;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.taskScheduler = taskScheduler;
+        this.homeSnapshotCache = homeSnapshotCache;
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.maxPending = maxPending;
+        this.flushInterval = Duration.ofMillis(flushIntervalMs);
+
+        this.flushedCounter = Counter.builder("booklog.write-behind.flushed").register(meterRegistry);
+        this.droppedCounter = Counter.builder("booklog.write-behind.dropped").register(meterRegistry);
+        Gauge.builder("booklog.write-behind.pending", pendingCount, AtomicInteger::get).register(meterRegistry);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    // 비활성화 상태에서는 버퍼를 사용하지 않으므로 주기 저장을 등록하지 않음
+    @PostConstruct
+    void scheduleFlush() {
+        if (enabled) {
+            scheduledFlush = taskScheduler.scheduleWithFixedDelay(this::flush, flushInterval);
+        }
+    }
+
+    /**
+     * 기록 추가 요청을 버퍼에 저장 (요청 스레드에서는 저장하지 않음)
+     * - now_page 변경은 항상 버퍼에서 합침 (먼저 들어온 값이 나중에 덮어쓰지 않도록)
+     * @return 버퍼가 가득 차 기록을 받지 않았으면 false (호출한 쪽에서 기록만 직접 저장)
+     */
+    public boolean enqueue(Long mybookId, UUID memberId, BookLogReq request) {
+        if (request.getPage() != null) {
+            pendingNowPages.put(mybookId, new PendingNowPage(memberId, request.getPage()));
+        }
+        if (pendingCount.get() >= maxPending) {
+            requestFlush();
+            return false;
+        }
+        pendingLogs.offer(new PendingBookLog(mybookId, memberId, request.getPage(), request.getContent()));
+
+        if (pendingCount.incrementAndGet() >= maxPending) {
+            requestFlush();
+        }
+        return true;
+    }
+
+    // 다음 주기를 기다리지 않고 스케줄러 스레드에서 바로 저장 (중복 요청은 한 번으로 합침)
+    private void requestFlush() {
+        if (flushRequested.compareAndSet(false, true)) {
+            taskScheduler.schedule(this::flush, Instant.now());
+        }
+    }
+
+    /**
+     * 버퍼에 쌓인 기록 저장 (주기 실행, 완독 처리 전/서버 종료 시에도 호출)
+     */
+    public void flush() {
+        flushLock.lock();
+        try {
+            flushRequested.set(false);
+            flushPending();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        if (scheduledFlush != null) scheduledFlush.cancel(false);
+        flush();
+    }
+
+    private void flushPending() {
+        List<PendingBookLog> logs = drainLogs();
+        Map<Long, PendingNowPage> nowPages = drainNowPages();
+        if (logs.isEmpty() && nowPages.isEmpty()) return;
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> write(logs, nowPages));
+            flushedCounter.increment(logs.size());
+        } catch (RuntimeException e) {
+            log.error("기록 일괄 저장 실패, 건별로 다시 저장 logs={}, nowPages={}", logs.size(), nowPages.size(), e);
+            writeOneByOne(logs, nowPages);
+        }
+
+        // 저장이 끝난 회원의 홈 스냅샷 삭제
+        Set<UUID> memberIds = new HashSet<>();
+        logs.forEach(pending -> memberIds.add(pending.memberId()));
+        nowPages.values().forEach(pending -> memberIds.add(pending.memberId()));
+        memberIds.forEach(homeSnapshotCache::evict);
+    }
+
+    private void write(List<PendingBookLog> logs, Map<Long, PendingNowPage> nowPages) {
+        entityManager.unwrap(Session.class).setJdbcBatchSize(batchSize);
+
+        for (PendingBookLog pending : logs) {
+            entityManager.persist(toBookLog(pending));
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        if (nowPages.isEmpty()) return;
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> args = new ArrayList<>(nowPages.size());
+        nowPages.forEach((mybookId, pending) -> args.add(new Object[]{pending.page(), now, mybookId, mybookId}));
+        jdbcTemplate.batchUpdate(UPDATE_NOW_PAGE_SQL, args);
+    }
+
+    // 일괄 저장 실패 시 문제가 된 기록만 버리기 위해 건별 트랜잭션으로 저장
+    private void writeOneByOne(List<PendingBookLog> logs, Map<Long, PendingNowPage> nowPages) {
+        for (PendingBookLog pending : logs) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> entityManager.persist(toBookLog(pending)));
+                flushedCounter.increment();
+            } catch (RuntimeException e) {
+                droppedCounter.increment();
+                log.error("기록 저장 실패로 버림 mybookId={}", pending.mybookId(), e);
+            }
+        }
+        nowPages.forEach((mybookId, pending) -> {
+            try {
+                jdbcTemplate.update(UPDATE_NOW_PAGE_SQL, pending.page(), Timestamp.valueOf(LocalDateTime.now()), mybookId, mybookId);
+            } catch (RuntimeException e) {
+                log.error("현재 페이지 저장 실패 mybookId={}", mybookId, e);
+            }
+        });
+    }
+
+    private BookLog toBookLog(PendingBookLog pending) {
+        return BookLog.builder()
+                .myBook(entityManager.getReference(MyBook.class, pending.mybookId().intValue()))
+                .page(pending.page())
+                .content(pending.content())
+                .booklogType(BookLogType.THINK.name())
+                .build();
+    }
+
+    private List<PendingBookLog> drainLogs() {
+        List<PendingBookLog> logs = new ArrayList<>();
+        PendingBookLog pending;
+        while ((pending = pendingLogs.poll()) != null) {
+            logs.add(pending);
+            pendingCount.decrementAndGet();
+        }
+        return logs;
+    }
+
+    // 키별로 꺼내면서 제거 (꺼낸 뒤 들어온 값은 다음 flush에서 저장)
+    private Map<Long, PendingNowPage> drainNowPages() {
+        Map<Long, PendingNowPage> nowPages = new HashMap<>();
+        for (Long mybookId : pendingNowPages.keySet()) {
+            PendingNowPage pending = pendingNowPages.remove(mybookId);
+            if (pending != null) nowPages.put(mybookId, pending);
+        }
+        return nowPages;
+    }
+
+    private record PendingBookLog(Long mybookId, UUID memberId, Integer page, String content) { }
+
+    private record PendingNowPage(UUID memberId, int page) { }
+}
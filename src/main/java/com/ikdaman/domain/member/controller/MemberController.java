@@ -45,7 +45,7 @@ public class MemberController {
     // 내 정보 조회
     @GetMapping("/me")
     public ResponseEntity findMyInfo(@AuthenticationPrincipal AuthMember authMember) {
-        MemberRes result = memberService.getMember(authMember.getMember().getMemberId());
+        MemberRes result = memberService.getMember(authMember.getMemberId());
         return ResponseEntity.ok(result);
     }
 
@@ -53,7 +53,7 @@ public class MemberController {
     @PutMapping("/me")
     public ResponseEntity editMyInfo(@AuthenticationPrincipal AuthMember authMember,
                                      @RequestBody @Valid MemberReq memberReq) {
-        MemberRes result = memberService.editMember(authMember.getMember().getMemberId(), memberReq);
+        MemberRes result = memberService.editMember(authMember.getMemberId(), memberReq);
         return ResponseEntity.ok(result);
     }
 
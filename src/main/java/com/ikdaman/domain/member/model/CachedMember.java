@@ -0,0 +1,31 @@
+package com.ikdaman.domain.member.model;
+
+import com.ikdaman.domain.member.entity.Member;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * 캐시에 보관하는 회원 정보 스냅샷 (엔티티 대신 보관)
+ */
+public record CachedMember(
+        UUID memberId,
+        String nickname,
+        LocalDate birthdate,
+        Member.Gender gender,
+        Member.Status status
+) {
+    public static CachedMember from(Member member) {
+        return new CachedMember(
+                member.getMemberId(),
+                member.getNickname(),
+                member.getBirthdate(),
+                member.getGender(),
+                member.getStatus()
+        );
+    }
+
+    public boolean isActive() {
+        return status == Member.Status.ACTIVE;
+    }
+}
@@ -2,7 +2,10 @@ package com.ikdaman.domain.member.repository;
 
 import com.ikdaman.domain.member.entity.Member;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -14,4 +17,7 @@ public interface MemberRepository extends JpaRepository<Member, UUID> {
     Optional<Member> findBySocialTypeAndProviderId(Member.SocialType socialType, String providerId);
     Boolean existsByNicknameAndStatus(String nickname, Member.Status status);
     Optional<Member> findByMemberIdAndStatus(UUID memberId, Member.Status status);
+
+    @Query("SELECT m.nickname FROM Member m WHERE m.status = :status")
+    List<String> findNicknamesByStatus(@Param("status") Member.Status status);
 }
@@ -0,0 +1,157 @@
+package com.ikdaman.domain.member.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.ikdaman.domain.member.model.CachedMember;
+import com.ikdaman.domain.member.repository.MemberRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * 회원 2단계 캐시 (로컬 Caffeine → Redis → DB)
+ * - memberId 기준으로 회원 스냅샷을 보관
+ * - 회원 정보 변경 시 Redis 키를 지우고, pub/sub으로 다른 서버의 로컬 캐시도 무효화
+ * - 무효화할 때마다 회원별 버전(MBR_V: )을 올리고, DB에서 읽은 값은 읽기 전 버전이 그대로일 때만 Redis에 저장
+ *   (DB 조회 → 다른 요청의 변경 커밋, 삭제 → 이전 값 저장 순서로 실행되어 이전 값이 redis-ttl 동안 남는 것을 방지)
+ */
+@Slf4j
+@Component
+public class MemberCache implements MessageListener {
+
+    public static final String EVICT_CHANNEL = "member-cache-evict";
+    private static final String KEY_PREFIX = "MBR: ";
+    private static final String VERSION_KEY_PREFIX = "MBR_V: ";
+
+    // KEYS[1]: 스냅샷, KEYS[2]: 버전 / ARGV[1]: DB 조회 전 버전(없으면 빈 문자열), ARGV[2]: 스냅샷 JSON, ARGV[3]: TTL(ms)
+    private static final RedisScript<Long> SET_IF_VERSION = new DefaultRedisScript<>("""
+            local version = redis.call('GET', KEYS[2]) or ''
+            if version ~= ARGV[1] then return 0 end
+            redis.call('SET', KEYS[1], ARGV[2], 'PX', ARGV[3])
+            return 1
+            """, Long.class);
+
+    // KEYS[1]: 스냅샷, KEYS[2]: 버전 / ARGV[1]: 버전 TTL(ms)
+    private static final RedisScript<Long> EVICT = new DefaultRedisScript<>("""
+            redis.call('DEL', KEYS[1])
+            local version = redis.call('INCR', KEYS[2])
+            redis.call('PEXPIRE', KEYS[2], ARGV[1])
+            return version
+            """, Long.class);
+
+    private final Cache<UUID, CachedMember> localCache;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final MemberRepository memberRepository;
+    private final Duration redisTtl;
+
+    public MemberCache(RedisTemplate<String, String> redisTemplate,
+                       ObjectMapper objectMapper,
+                       MemberRepository memberRepository,
+                       @Value("${member.cache.local-max-size:10000}") long localMaxSize,
+                       @Value("${member.cache.local-ttl-seconds:60}") long localTtlSeconds,
+                       @Value("${member.cache.redis-ttl-seconds:600}") long redisTtlSeconds) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.memberRepository = memberRepository;
+        this.redisTtl = Duration.ofSeconds(redisTtlSeconds);
+        this.localCache = Caffeine.newBuilder()
+                .maximumSize(localMaxSize)
+                .expireAfterWrite(Duration.ofSeconds(localTtlSeconds))
+                .build();
+    }
+
+    /**
+     * 회원 스냅샷 조회 (상태와 관계없이 존재하는 회원이면 반환)
+     */
+    public Optional<CachedMember> get(UUID memberId) {
+        return Optional.ofNullable(localCache.get(memberId, this::loadFromRemote));
+    }
+
+    /**
+     * 로컬/Redis 캐시 삭제 후 다른 서버에 무효화 메시지 발행
+     */
+    public void evict(UUID memberId) {
+        localCache.invalidate(memberId);
+        try {
+            redisTemplate.execute(EVICT, List.of(KEY_PREFIX + memberId, VERSION_KEY_PREFIX + memberId),
+                    String.valueOf(redisTtl.toMillis()));
+            redisTemplate.convertAndSend(EVICT_CHANNEL, memberId.toString());
+        } catch (DataAccessException e) {
+            log.warn("회원 캐시 무효화 실패 memberId={}", memberId, e);
+        }
+    }
+
+    /**
+     * 트랜잭션 커밋 이후에 캐시 삭제 (커밋 전 다른 요청이 이전 값을 다시 적재하는 것을 방지)
+     */
+    public void evictAfterCommit(UUID memberId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            evict(memberId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                evict(memberId);
+            }
+        });
+    }
+
+    // 다른 서버에서 발행한 무효화 메시지 수신
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String memberId = new String(message.getBody(), StandardCharsets.UTF_8);
+        try {
+            localCache.invalidate(UUID.fromString(memberId));
+        } catch (IllegalArgumentException e) {
+            log.warn("잘못된 회원 캐시 무효화 메시지: {}", memberId);
+        }
+    }
+
+    private CachedMember loadFromRemote(UUID memberId) {
+        String key = KEY_PREFIX + memberId;
+        String versionKey = VERSION_KEY_PREFIX + memberId;
+
+        String version = null;
+        try {
+            List<String> values = redisTemplate.opsForValue().multiGet(List.of(key, versionKey));
+            if (values != null && values.get(0) != null) {
+                return objectMapper.readValue(values.get(0), CachedMember.class);
+            }
+            version = (values != null && values.get(1) != null) ? values.get(1) : "";
+        } catch (DataAccessException | JsonProcessingException e) {
+            log.warn("회원 캐시(Redis) 조회 실패 memberId={}", memberId, e);
+        }
+
+        CachedMember member = memberRepository.findById(memberId)
+                .map(CachedMember::from)
+                .orElse(null);
+        if (member == null || version == null) return member; // Redis 오류 시 저장하지 않음
+
+        try {
+            // 조회하는 동안 무효화되었다면 저장하지 않음 (다음 조회에서 다시 적재)
+            redisTemplate.execute(SET_IF_VERSION, List.of(key, versionKey),
+                    version, objectMapper.writeValueAsString(member), String.valueOf(redisTtl.toMillis()));
+        } catch (DataAccessException | JsonProcessingException e) {
+            log.warn("회원 캐시(Redis) 저장 실패 memberId={}", memberId, e);
+        }
+        return member;
+    }
+}
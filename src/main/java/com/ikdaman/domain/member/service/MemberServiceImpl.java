@@ -2,9 +2,11 @@ package com.ikdaman.domain.member.service;
 
 import com.ikdaman.domain.auth.service.AuthService;
 import com.ikdaman.domain.member.entity.Member;
+import com.ikdaman.domain.member.model.CachedMember;
 import com.ikdaman.domain.member.model.MemberReq;
 import com.ikdaman.domain.member.model.MemberRes;
 import com.ikdaman.domain.member.repository.MemberRepository;
+import com.ikdaman.global.auth.service.RevokedMemberRegistry;
 import com.ikdaman.global.exception.BaseException;
 import com.ikdaman.global.exception.ErrorCode;
 import lombok.RequiredArgsConstructor;
@@ -24,6 +26,9 @@ public class MemberServiceImpl implements MemberService {
 
     private final MemberRepository memberRepository;
     private final AuthService authService;
+    private final RevokedMemberRegistry revokedMemberRegistry;
+    private final MemberCache memberCache;
+    private final NicknameAllocator nicknameAllocator;
 
     @Override
     @Transactional
@@ -34,6 +39,9 @@ public class MemberServiceImpl implements MemberService {
             throw new IllegalArgumentException("이미 존재하는 닉네임입니다.");
         }
         Member member = dto.toEntity();
+        if (!nicknameAllocator.claim(member.getNickname())) {
+            throw new BaseException(ErrorCode.CONFLICT_NICKNAME);
+        }
         return memberRepository.save(member);
     }
 
@@ -52,13 +60,13 @@ public class MemberServiceImpl implements MemberService {
     @Override
     @Transactional(readOnly = true)
     public MemberRes getMember(UUID memberId) {
-        Member member = memberRepository.findById(memberId)
+        CachedMember member = memberCache.get(memberId)
                 .orElseThrow(() -> new BaseException(ErrorCode.NOT_FOUND_USER));
 
         MemberRes info = MemberRes.builder()
-                .nickname(member.getNickname())
-                .birthdate(member.getBirthdate())
-                .gender(member.getGender())
+                .nickname(member.nickname())
+                .birthdate(member.birthdate())
+                .gender(member.gender())
                 .build();
         return info;
     }
@@ -76,6 +84,13 @@ public class MemberServiceImpl implements MemberService {
         ) {
             throw new BaseException(ErrorCode.CONFLICT_NICKNAME);
         }
+        if (memberReq.getNickname() != null && !memberReq.getNickname().equals(member.getNickname())) {
+            // 랜덤 닉네임 형식으로 바꾸는 경우 다른 회원에게 할당되지 않도록 표시하고, 이전 닉네임은 반환
+            if (!nicknameAllocator.claim(memberReq.getNickname())) {
+                throw new BaseException(ErrorCode.CONFLICT_NICKNAME);
+            }
+            nicknameAllocator.releaseAfterCommit(member.getNickname());
+        }
 
         member.updateNickname(Optional.ofNullable(memberReq.getNickname()).orElse(member.getNickname()));
         // birthdate 필드를 null인 채로 보냈다면 갱신하지 않음, 빈 문자열로 보낸다면 null 처리 (빈 문자열은 Deserializer에서 LocalDate.MIN 처리 됨)
@@ -86,6 +101,7 @@ public class MemberServiceImpl implements MemberService {
         member.updateGender((gender != Member.Gender.BLANK) ? gender : null);
 
         memberRepository.save(member);
+        memberCache.evictAfterCommit(memberId);
 
         MemberRes info = MemberRes.builder()
                 .nickname(member.getNickname())
@@ -99,9 +115,12 @@ public class MemberServiceImpl implements MemberService {
     @Transactional
     public void withdrawMember(Member member) {
         authService.logout(member.getMemberId());
+        revokedMemberRegistry.revoke(member.getMemberId());
 
         member.updateStatus(Member.Status.INACTIVE);
         member.updateProviderId(null);
         memberRepository.save(member);
+        nicknameAllocator.releaseAfterCommit(member.getNickname());
+        memberCache.evictAfterCommit(member.getMemberId());
     }
 }
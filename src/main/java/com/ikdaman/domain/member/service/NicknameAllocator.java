@@ -0,0 +1,195 @@
+package com.ikdaman.domain.member.service;
+
+import com.ikdaman.domain.member.entity.Member;
+import com.ikdaman.domain.member.repository.MemberRepository;
+import com.ikdaman.global.util.RandomNickname;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 중복 없는 랜덤 닉네임 할당
+ * - 생성 가능한 닉네임마다 Redis 비트맵의 비트 하나를 사용 (1: 사용 중)
+ * - 임의의 위치에서 비어있는 비트를 찾아 표시하는 과정을 Lua 스크립트로 한 번에 수행 (여러 서버에서 동시에 할당해도 중복 없음)
+ * - 비트맵이 준비되지 않았거나(최초 기동, Redis 초기화) Redis 오류 시 Optional.empty() → 호출 측에서 DB 확인 방식으로 생성
+ * - 할당/표시한 비트는 트랜잭션이 롤백되면 다시 비움
+ */
+@Slf4j
+@Component
+public class NicknameAllocator {
+
+    private static final String TAKEN_KEY = "NICK: TAKEN";
+    private static final String READY_KEY = "NICK: READY";
+    private static final String SEED_KEY = "NICK: SEED";
+    private static final String SEED_LOCK_KEY = "NICK: SEED_LOCK";
+    private static final Duration SEED_LOCK_TTL = Duration.ofMinutes(1);
+
+    // 반환값: 할당된 번호, -1: 모두 사용 중, -2: 비트맵 준비 전
+    private static final RedisScript<Long> ALLOCATE = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[2]) == 0 then return -2 end
+            local start = tonumber(ARGV[1])
+            local capacity = tonumber(ARGV[2])
+            if redis.call('GETBIT', KEYS[1], start) == 0 then
+              redis.call('SETBIT', KEYS[1], start, 1)
+              return start
+            end
+            local pos = redis.call('BITPOS', KEYS[1], 0, math.floor(start / 8))
+            if pos < 0 or pos >= capacity then pos = redis.call('BITPOS', KEYS[1], 0) end
+            if pos < 0 or pos >= capacity then return -1 end
+            redis.call('SETBIT', KEYS[1], pos, 1)
+            return pos
+            """, Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final MemberRepository memberRepository;
+    private final RandomNickname randomNickname;
+    private final TransactionTemplate transactionTemplate;
+
+    public NicknameAllocator(RedisTemplate<String, String> redisTemplate,
+                             MemberRepository memberRepository,
+                             RandomNickname randomNickname,
+                             TransactionTemplate transactionTemplate) {
+        this.redisTemplate = redisTemplate;
+        this.memberRepository = memberRepository;
+        this.randomNickname = randomNickname;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    /**
+     * 사용 중이지 않은 닉네임을 할당
+     * @return 할당된 닉네임, 비트맵을 사용할 수 없으면 Optional.empty()
+     */
+    public Optional<String> allocate() {
+        int start = ThreadLocalRandom.current().nextInt(randomNickname.capacity());
+        try {
+            Long index = redisTemplate.execute(ALLOCATE, List.of(TAKEN_KEY, READY_KEY),
+                    String.valueOf(start), String.valueOf(randomNickname.capacity()));
+            if (index == null || index < 0) {
+                if (index != null && index == -1) log.warn("할당 가능한 랜덤 닉네임이 없습니다.");
+                return Optional.empty();
+            }
+            releaseOnRollback(index.intValue());
+            return Optional.of(randomNickname.nicknameAt(index.intValue()));
+        } catch (DataAccessException e) {
+            log.warn("닉네임 할당 실패", e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 닉네임을 사용 중으로 표시 (랜덤 닉네임 형식이 아니면 무시)
+     * - 이미 표시된 비트면 다른 회원에게 할당 중이므로 false (SETBIT의 이전 값으로 확인)
+     * - Redis 오류 시에는 DB 중복 확인 결과를 따르도록 true
+     */
+    public boolean claim(String nickname) {
+        int index = randomNickname.indexOf(nickname);
+        if (index < 0) return true;
+        try {
+            Boolean previous = redisTemplate.opsForValue().setBit(TAKEN_KEY, index, true);
+            if (Boolean.TRUE.equals(previous)) return false;
+        } catch (DataAccessException e) {
+            log.warn("닉네임 비트맵 갱신 실패 nickname={}", nickname, e);
+            return true;
+        }
+        releaseOnRollback(index);
+        return true;
+    }
+
+    /**
+     * 트랜잭션 커밋 이후 닉네임을 다시 할당 가능하도록 표시 (롤백 시 다른 회원에게 할당되는 것을 방지)
+     */
+    public void releaseAfterCommit(String nickname) {
+        if (randomNickname.indexOf(nickname) < 0) return;
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            setBit(nickname, false);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                setBit(nickname, false);
+            }
+        });
+    }
+
+    /**
+     * 비트맵이 없으면(최초 기동, Redis 초기화) 활성 회원의 닉네임으로 생성
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${member.nickname.seed-check-ms:60000}",
+            fixedDelayString = "${member.nickname.seed-check-ms:60000}")
+    public void seedIfMissing() {
+        try {
+            if (Boolean.TRUE.equals(redisTemplate.hasKey(READY_KEY))) return;
+            if (!Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(SEED_LOCK_KEY, "1", SEED_LOCK_TTL))) return;
+            seed();
+        } catch (DataAccessException e) {
+            log.warn("닉네임 비트맵 생성 실패", e);
+        }
+    }
+
+    private void seed() {
+        List<String> nicknames = transactionTemplate.execute(status ->
+                memberRepository.findNicknamesByStatus(Member.Status.ACTIVE));
+
+        byte[] bitmap = new byte[(randomNickname.capacity() + 7) / 8];
+        int taken = 0;
+        for (String nickname : nicknames) {
+            int index = randomNickname.indexOf(nickname);
+            if (index < 0) continue;
+            // Redis 비트맵은 바이트의 상위 비트부터 사용
+            bitmap[index >>> 3] |= (byte) (0x80 >>> (index & 7));
+            taken++;
+        }
+
+        // 생성 중에 DB 확인 방식으로 할당된 닉네임이 지워지지 않도록 기존 비트맵과 OR로 합침
+        redisTemplate.execute((RedisCallback<Void>) connection -> {
+            byte[] seedKey = SEED_KEY.getBytes(StandardCharsets.UTF_8);
+            byte[] takenKey = TAKEN_KEY.getBytes(StandardCharsets.UTF_8);
+            connection.stringCommands().set(seedKey, bitmap);
+            connection.stringCommands().bitOp(RedisStringCommands.BitOperation.OR, takenKey, takenKey, seedKey);
+            connection.keyCommands().del(seedKey);
+            return null;
+        });
+        redisTemplate.opsForValue().set(READY_KEY, "1");
+        log.info("닉네임 비트맵 생성 완료: 사용 중 {}개 / {}개", taken, randomNickname.capacity());
+    }
+
+    // 트랜잭션 안에서 표시한 비트는 롤백 시 비움 (Ex. 동시 가입으로 인한 unique 제약 위반)
+    private void releaseOnRollback(int index) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) return;
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_ROLLED_BACK) setBit(randomNickname.nicknameAt(index), false);
+            }
+        });
+    }
+
+    private void setBit(String nickname, boolean taken) {
+        int index = randomNickname.indexOf(nickname);
+        if (index < 0) return;
+        try {
+            redisTemplate.opsForValue().setBit(TAKEN_KEY, index, taken);
+        } catch (DataAccessException e) {
+            log.warn("닉네임 비트맵 갱신 실패 nickname={}", nickname, e);
+        }
+    }
+}
@@ -1,9 +1,12 @@
 package com.ikdaman.domain.mybook.controller;
 
+import com.ikdaman.domain.bookLog.model.BookLogCursorRes;
 import com.ikdaman.domain.bookLog.model.BookLogListRes;
 import com.ikdaman.domain.mybook.model.*;
 import com.ikdaman.domain.mybook.service.MyBookService;
 import com.ikdaman.global.auth.model.AuthMember;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import lombok.RequiredArgsConstructor;
 import com.ikdaman.global.auth.model.AuthMember;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -12,9 +15,11 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
 @RestController
+@Validated
 @RequestMapping("/mybooks")
 @RequiredArgsConstructor
 public class MyBookController {
@@ -26,7 +31,7 @@ public class MyBookController {
             @RequestBody MyBookReq dto,
             @AuthenticationPrincipal AuthMember authMember
     ) {
-        MyBookRes myBookRes = myBookService.addMyBook(authMember.getMember().getMemberId(), dto);
+        MyBookRes myBookRes = myBookService.addMyBook(authMember.getMemberId(), dto);
         return ResponseEntity.status(HttpStatus.CREATED).build();
     }
 
@@ -35,14 +40,14 @@ public class MyBookController {
                                                  @RequestBody ImpressionReq dto,
                                                  @AuthenticationPrincipal AuthMember authMember) {
 
-        myBookService.addImpression(authMember.getMember().getMemberId(), myBookId, dto);
+        myBookService.addImpression(authMember.getMemberId(), myBookId, dto);
         return ResponseEntity.status(HttpStatus.CREATED).build();
     }
 
     @DeleteMapping("/{mybook_id}")
     public ResponseEntity<Void> deleteMyBook(@PathVariable Integer mybook_id,
                                              @AuthenticationPrincipal AuthMember authMember) {
-        myBookService.deleteMyBook(authMember.getMember().getMemberId(), mybook_id);
+        myBookService.deleteMyBook(authMember.getMemberId(), mybook_id);
         return ResponseEntity.status(HttpStatus.RESET_CONTENT).build();
     }
 
@@ -67,6 +72,23 @@ public class MyBookController {
         return myBookService.searchMyBooks(request, authMember);
     }
 
+    // 책장 목록 커서 조회 (COUNT 없이 다음 페이지 여부만 반환)
+    @GetMapping("/cursor")
+    public MyBookCursorRes searchMyBooksByCursor(
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) String keyword,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false, defaultValue = "9") @Min(value = 1, message = "limit은 1 이상이어야 합니다.") @Max(value = MyBookService.MAX_CURSOR_LIMIT, message = "limit은 {value} 이하여야 합니다.") Integer limit,
+            @AuthenticationPrincipal AuthMember authMember
+    ) {
+        MyBookSearchReq request = new MyBookSearchReq();
+        request.setStatus(status);
+        request.setKeyword(keyword);
+        request.setLimit(limit);
+
+        return myBookService.searchMyBooksByCursor(request, cursor, authMember);
+    }
+
     // 독서중인 책 목록 조회
     @GetMapping("/in-progress")
     public InProgressBooksRes searchInProgressBooks(
@@ -79,7 +101,7 @@ public class MyBookController {
     @GetMapping("/{mybookId}")
     public ResponseEntity<MyBookDetailRes> getMyBookDetail(@AuthenticationPrincipal AuthMember authMember,
                                                            @PathVariable Long mybookId) {
-        MyBookDetailRes res = myBookService.getMyBookDetail(authMember.getMember().getMemberId(), mybookId);
+        MyBookDetailRes res = myBookService.getMyBookDetail(authMember.getMemberId(), mybookId);
         return ResponseEntity.ok(res);
     }
 
@@ -91,6 +113,17 @@ public class MyBookController {
             @RequestParam(value = "page", required = false, defaultValue = "1") Integer page,
             @RequestParam(value = "limit", required = false, defaultValue = "9") Integer limit
     ) {
-        return ResponseEntity.ok(myBookService.getMyBookLogs(authMember.getMember().getMemberId(), mybookId, page, limit));
+        return ResponseEntity.ok(myBookService.getMyBookLogs(authMember.getMemberId(), mybookId, page, limit));
+    }
+
+    // 나의 책 기록 커서 조회
+    @GetMapping("/{mybookId}/booklog/cursor")
+    public ResponseEntity<BookLogCursorRes> getMyBookLogsByCursor(
+            @AuthenticationPrincipal AuthMember authMember,
+            @PathVariable("mybookId") Long mybookId,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "limit", required = false, defaultValue = "9") @Min(value = 1, message = "limit은 1 이상이어야 합니다.") @Max(value = MyBookService.MAX_CURSOR_LIMIT, message = "limit은 {value} 이하여야 합니다.") Integer limit
+    ) {
+        return ResponseEntity.ok(myBookService.getMyBookLogsByCursor(authMember.getMemberId(), mybookId, cursor, limit));
     }
 }
\ No newline at end of file
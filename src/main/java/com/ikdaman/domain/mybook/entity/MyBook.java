@@ -21,6 +21,7 @@ import java.util.UUID;
 @Builder
 @DynamicInsert
 @DynamicUpdate
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_my_book_member_book", columnNames = {"member_id", "book_id"}))
 public class MyBook extends BaseTime {
     @Id
     @GeneratedValue
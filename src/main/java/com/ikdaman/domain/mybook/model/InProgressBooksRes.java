@@ -3,6 +3,7 @@ package com.ikdaman.domain.mybook.model;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.NoArgsConstructor;
 
 import java.util.List;
 
@@ -16,6 +17,7 @@ public class InProgressBooksRes {
 
     @Data
     @Builder
+    @NoArgsConstructor
     @AllArgsConstructor
     public static class BookDto {
         private int mybookId;
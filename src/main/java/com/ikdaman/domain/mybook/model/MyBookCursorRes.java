@@ -0,0 +1,19 @@
+package com.ikdaman.domain.mybook.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * 책장 목록 커서 조회 응답
+ */
+@Data
+@Builder
+@AllArgsConstructor
+public class MyBookCursorRes {
+    private List<MyBookSearchRes.BookDto> books;
+    private String nextCursor; // 다음 페이지 요청 시 전달할 커서 (마지막 페이지면 null)
+    private boolean hasNext;
+}
@@ -0,0 +1,17 @@
+package com.ikdaman.domain.mybook.model;
+
+import java.time.LocalDateTime;
+
+/**
+ * 책장 목록 조회용 프로젝션 (MyBook + Book 필요한 컬럼만 조회)
+ */
+public interface MyBookSummary {
+    Integer getMybookId();
+    Integer getBookId();
+    String getTitle();
+    String getAuthorsDisplay();
+    String getCoverImage();
+    Integer getPage();
+    Integer getNowPage();
+    LocalDateTime getCreatedAt();
+}
@@ -1,65 +1,247 @@
 package com.ikdaman.domain.mybook.repository;
 
-import com.ikdaman.domain.book.entity.Book;
 import com.ikdaman.domain.mybook.entity.MyBook;
+import com.ikdaman.domain.mybook.model.MyBookSummary;
 import io.lettuce.core.dynamic.annotation.Param;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 public interface MyBookRepository extends JpaRepository<MyBook, Long> {
 
+    // 책장 목록 조회 (필요한 컬럼만 조회, 작가 검색은 EXISTS로 처리해 행 중복 방지)
     @Query(value = """
-        SELECT m FROM MyBook m
-        LEFT JOIN m.book b
-        LEFT JOIN b.author a
-        LEFT JOIN a.writer w
-        WHERE 
+        SELECT
+            m.mybookId AS mybookId,
+            b.bookId AS bookId,
+            b.title AS title,
+            b.authorsDisplay AS authorsDisplay,
+            b.coverImage AS coverImage,
+            b.page AS page,
+            m.nowPage AS nowPage,
+            m.createdAt AS createdAt
+        FROM MyBook m
+        JOIN m.book b
+        WHERE
             m.memberId = :memberId AND
             m.status = 'ACTIVE' AND
             (
-                :status IS NULL OR 
-                (:status = 'completed' AND b.page = m.nowPage) OR 
+                :status IS NULL OR
+                (:status = 'completed' AND b.page = m.nowPage) OR
                 (:status = 'in-progress' AND b.page != m.nowPage)
             )
             AND (
-                :keyword is null OR
-                b.title LIKE %:keyword% OR 
-                w.writerName LIKE %:keyword%
+                :keyword IS NULL OR
+                b.title LIKE %:keyword% OR
+                EXISTS (
+                    SELECT 1 FROM Author a
+                    JOIN a.writer w
+                    WHERE a.book = b AND w.writerName LIKE %:keyword%
+                )
             )
         ORDER BY m.createdAt DESC
     """,
     countQuery = """
         SELECT COUNT(m) FROM MyBook m
-        LEFT JOIN m.book b
-        LEFT JOIN b.author a
-        LEFT JOIN a.writer w
-        WHERE 
+        JOIN m.book b
+        WHERE
             m.memberId = :memberId AND
             m.status = 'ACTIVE' AND
             (
-                :status IS NULL OR 
-                (:status = 'completed' AND b.page = m.nowPage) OR 
+                :status IS NULL OR
+                (:status = 'completed' AND b.page = m.nowPage) OR
                 (:status = 'in-progress' AND b.page != m.nowPage)
             )
             AND (
                 :keyword IS NULL OR
-                b.title LIKE %:keyword% OR 
-                w.writerName LIKE %:keyword%
+                b.title LIKE %:keyword% OR
+                EXISTS (
+                    SELECT 1 FROM Author a
+                    JOIN a.writer w
+                    WHERE a.book = b AND w.writerName LIKE %:keyword%
+                )
             )
     """
     )
-    Page<MyBook> searchMyBooks(
+    Page<MyBookSummary> searchMyBooks(
             @Param("memberId") UUID memberId,
             @Param("status") String status,
             @Param("keyword") String keyword,
             Pageable pageable
     );
 
+    // 책장 키워드 검색 (PostgreSQL pg_trgm 인덱스 사용, 유사도 순 정렬)
+    // - keyword: 제목/작가명 부분 일치 (대소문자 무시)
+    // - choseong: 초성만 입력한 경우 제목/작가명의 초성 컬럼과 부분 일치 (아니면 null)
+    @Query(value = """
+        SELECT
+            m.mybook_id AS "mybookId",
+            b.book_id AS "bookId",
+            b.title AS "title",
+            b.authors_display AS "authorsDisplay",
+            b.cover_image AS "coverImage",
+            b.page AS "page",
+            m.now_page AS "nowPage",
+            m.created_at AS "createdAt"
+        FROM my_book m
+        JOIN book b ON b.book_id = m.book_id
+        WHERE
+            m.member_id = :memberId AND
+            m.status = 'ACTIVE' AND
+            (
+                CAST(:status AS VARCHAR) IS NULL OR
+                (:status = 'completed' AND b.page = m.now_page) OR
+                (:status = 'in-progress' AND b.page <> m.now_page)
+            )
+            AND (
+                b.title ILIKE '%' || :keyword || '%' OR
+                b.title_choseong LIKE '%' || CAST(:choseong AS VARCHAR) || '%' OR
+                EXISTS (
+                    SELECT 1 FROM author a
+                    JOIN writer w ON w.writer_id = a.writer_id
+                    WHERE a.book_id = b.book_id AND (
+                        w.writer_name ILIKE '%' || :keyword || '%' OR
+                        w.writer_name_choseong LIKE '%' || CAST(:choseong AS VARCHAR) || '%'
+                    )
+                )
+            )
+        ORDER BY
+            GREATEST(
+                similarity(b.title, :keyword),
+                COALESCE((
+                    SELECT MAX(similarity(w.writer_name, :keyword)) FROM author a
+                    JOIN writer w ON w.writer_id = a.writer_id
+                    WHERE a.book_id = b.book_id
+                ), 0)
+            ) DESC,
+            m.created_at DESC,
+            m.mybook_id DESC
+    """,
+    countQuery = """
+        SELECT COUNT(*)
+        FROM my_book m
+        JOIN book b ON b.book_id = m.book_id
+        WHERE
+            m.member_id = :memberId AND
+            m.status = 'ACTIVE' AND
+            (
+                CAST(:status AS VARCHAR) IS NULL OR
+                (:status = 'completed' AND b.page = m.now_page) OR
+                (:status = 'in-progress' AND b.page <> m.now_page)
+            )
+            AND (
+                b.title ILIKE '%' || :keyword || '%' OR
+                b.title_choseong LIKE '%' || CAST(:choseong AS VARCHAR) || '%' OR
+                EXISTS (
+                    SELECT 1 FROM author a
+                    JOIN writer w ON w.writer_id = a.writer_id
+                    WHERE a.book_id = b.book_id AND (
+                        w.writer_name ILIKE '%' || :keyword || '%' OR
+                        w.writer_name_choseong LIKE '%' || CAST(:choseong AS VARCHAR) || '%'
+                    )
+                )
+            )
+    """,
+    nativeQuery = true)
+    Page<MyBookSummary> searchMyBooksByKeyword(
+            @Param("memberId") UUID memberId,
+            @Param("status") String status,
+            @Param("keyword") String keyword,
+            @Param("choseong") String choseong,
+            Pageable pageable
+    );
+
+    // 책장 목록 커서 조회 - 첫 페이지 (COUNT 없이 limit + 1건으로 다음 페이지 여부 판단)
+    @Query(value = """
+        SELECT
+            m.mybookId AS mybookId,
+            b.bookId AS bookId,
+            b.title AS title,
+            b.authorsDisplay AS authorsDisplay,
+            b.coverImage AS coverImage,
+            b.page AS page,
+            m.nowPage AS nowPage,
+            m.createdAt AS createdAt
+        FROM MyBook m
+        JOIN m.book b
+        WHERE
+            m.memberId = :memberId AND
+            m.status = 'ACTIVE' AND
+            (
+                :status IS NULL OR
+                (:status = 'completed' AND b.page = m.nowPage) OR
+                (:status = 'in-progress' AND b.page != m.nowPage)
+            )
+            AND (
+                :keyword IS NULL OR
+                b.title LIKE %:keyword% OR
+                EXISTS (
+                    SELECT 1 FROM Author a
+                    JOIN a.writer w
+                    WHERE a.book = b AND w.writerName LIKE %:keyword%
+                )
+            )
+        ORDER BY m.createdAt DESC, m.mybookId DESC
+    """)
+    List<MyBookSummary> searchMyBooksFirst(
+            @Param("memberId") UUID memberId,
+            @Param("status") String status,
+            @Param("keyword") String keyword,
+            Limit limit
+    );
+
+    // 책장 목록 커서 조회 - (createdAt, mybookId) 이후
+    @Query(value = """
+        SELECT
+            m.mybookId AS mybookId,
+            b.bookId AS bookId,
+            b.title AS title,
+            b.authorsDisplay AS authorsDisplay,
+            b.coverImage AS coverImage,
+            b.page AS page,
+            m.nowPage AS nowPage,
+            m.createdAt AS createdAt
+        FROM MyBook m
+        JOIN m.book b
+        WHERE
+            m.memberId = :memberId AND
+            m.status = 'ACTIVE' AND
+            (
+                :status IS NULL OR
+                (:status = 'completed' AND b.page = m.nowPage) OR
+                (:status = 'in-progress' AND b.page != m.nowPage)
+            )
+            AND (
+                :keyword IS NULL OR
+                b.title LIKE %:keyword% OR
+                EXISTS (
+                    SELECT 1 FROM Author a
+                    JOIN a.writer w
+                    WHERE a.book = b AND w.writerName LIKE %:keyword%
+                )
+            )
+            AND (
+                m.createdAt < :cursorCreatedAt OR
+                (m.createdAt = :cursorCreatedAt AND m.mybookId < :cursorId)
+            )
+        ORDER BY m.createdAt DESC, m.mybookId DESC
+    """)
+    List<MyBookSummary> searchMyBooksAfter(
+            @Param("memberId") UUID memberId,
+            @Param("status") String status,
+            @Param("keyword") String keyword,
+            @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+            @Param("cursorId") Integer cursorId,
+            Limit limit
+    );
+
 
     @Query("""
     SELECT m FROM MyBook m
@@ -72,10 +254,10 @@ public interface MyBookRepository extends JpaRepository<MyBook, Long> {
         AND b.page != m.nowPage""")
     List<MyBook> findByMemberIdAndIsReading(UUID memberId, boolean isReading);
 
+    // 홈 화면 '읽고 있는 책' 조회 (기록은 조인하지 않고 책만 함께 조회)
     @Query(value = """
         SELECT m FROM MyBook m
-        LEFT JOIN m.book b
-        LEFT JOIN m.bookLogs bl
+        JOIN FETCH m.book b
         WHERE 
             m.memberId = :memberId
             AND m.isReading = true
@@ -87,6 +269,7 @@ public interface MyBookRepository extends JpaRepository<MyBook, Long> {
     )
     List<MyBook> findAllActiveReadingBooks(UUID memberId, Integer limit);
 
-    boolean existsMyBookByMemberIdAndBook(UUID memberId, Book Book);
+    @Query("SELECT m.memberId FROM MyBook m WHERE m.mybookId = :mybookId")
+    Optional<UUID> findMemberIdByMybookId(@Param("mybookId") Integer mybookId);
 
 }
@@ -0,0 +1,127 @@
+package com.ikdaman.domain.mybook.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ikdaman.domain.mybook.model.InProgressBooksRes;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 홈 화면 '읽고 있는 책' 스냅샷 캐시 (Redis)
+ * - memberId 기준으로 응답 전체를 JSON으로 보관
+ * - 나의 책 추가/삭제, 기록 추가, 완독, 첫인상 변경 시 커밋 이후 삭제되고 다음 조회에서 다시 생성
+ * - 삭제할 때마다 회원별 버전(HOME_V: )을 올리고, DB에서 만든 스냅샷은 조회 시점의 버전이 그대로일 때만 저장
+ *   (DB 조회 → 다른 요청의 변경 커밋, 삭제 → 이전 스냅샷 저장 순서로 실행되어 이전 상태가 TTL 동안 남는 것을 방지)
+ */
+@Slf4j
+@Component
+public class HomeSnapshotCache {
+
+    private static final String KEY_PREFIX = "HOME: ";
+    private static final String VERSION_KEY_PREFIX = "HOME_V: ";
+
+    // KEYS[1]: 스냅샷, KEYS[2]: 버전 / ARGV[1]: 조회 시점 버전(없으면 빈 문자열), ARGV[2]: 스냅샷 JSON, ARGV[3]: TTL(ms)
+    private static final RedisScript<Long> SET_IF_VERSION = new DefaultRedisScript<>("""
+            local version = redis.call('GET', KEYS[2]) or ''
+            if version ~= ARGV[1] then return 0 end
+            redis.call('SET', KEYS[1], ARGV[2], 'PX', ARGV[3])
+            return 1
+            """, Long.class);
+
+    // KEYS[1]: 스냅샷, KEYS[2]: 버전 / ARGV[1]: 버전 TTL(ms)
+    private static final RedisScript<Long> EVICT = new DefaultRedisScript<>("""
+            redis.call('DEL', KEYS[1])
+            local version = redis.call('INCR', KEYS[2])
+            redis.call('PEXPIRE', KEYS[2], ARGV[1])
+            return version
+            """, Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final Duration ttl;
+
+    public HomeSnapshotCache(RedisTemplate<String, String> redisTemplate,
+                             ObjectMapper objectMapper,
+                             @Value("${mybook.home-snapshot.ttl-seconds:1800}") long ttlSeconds) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.ttl = Duration.ofSeconds(ttlSeconds);
+    }
+
+    /**
+     * 스냅샷과 현재 버전 조회 (Redis 장애 시 스냅샷과 버전 모두 없음)
+     */
+    public Lookup get(UUID memberId) {
+        try {
+            List<String> values = redisTemplate.opsForValue()
+                    .multiGet(List.of(KEY_PREFIX + memberId, VERSION_KEY_PREFIX + memberId));
+            if (values == null) return Lookup.UNAVAILABLE;
+            if (values.get(0) != null) {
+                return new Lookup(objectMapper.readValue(values.get(0), InProgressBooksRes.class), null);
+            }
+            return new Lookup(null, values.get(1) != null ? values.get(1) : "");
+        } catch (DataAccessException | JsonProcessingException e) {
+            log.warn("홈 스냅샷 조회 실패 memberId={}", memberId, e);
+            return Lookup.UNAVAILABLE;
+        }
+    }
+
+    /**
+     * 조회 이후 삭제된 적이 없을 때만 스냅샷 저장 (다음 조회에서 다시 생성)
+     */
+    public void put(UUID memberId, Lookup lookup, InProgressBooksRes snapshot) {
+        if (lookup.version() == null) return; // Redis 오류 시 저장하지 않음
+        try {
+            redisTemplate.execute(SET_IF_VERSION, List.of(KEY_PREFIX + memberId, VERSION_KEY_PREFIX + memberId),
+                    lookup.version(), objectMapper.writeValueAsString(snapshot), String.valueOf(ttl.toMillis()));
+        } catch (DataAccessException | JsonProcessingException e) {
+            log.warn("홈 스냅샷 저장 실패 memberId={}", memberId, e);
+        }
+    }
+
+    public void evict(UUID memberId) {
+        try {
+            redisTemplate.execute(EVICT, List.of(KEY_PREFIX + memberId, VERSION_KEY_PREFIX + memberId),
+                    String.valueOf(ttl.toMillis()));
+        } catch (DataAccessException e) {
+            log.warn("홈 스냅샷 삭제 실패 memberId={}", memberId, e);
+        }
+    }
+
+    /**
+     * 트랜잭션 커밋 이후에 스냅샷 삭제 (커밋 전 다른 요청이 이전 상태로 스냅샷을 다시 만드는 것을 방지)
+     */
+    public void evictAfterCommit(UUID memberId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            evict(memberId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                evict(memberId);
+            }
+        });
+    }
+
+    /**
+     * 스냅샷 조회 결과
+     * @param snapshot 저장된 스냅샷 (없으면 null)
+     * @param version 스냅샷이 없을 때 조회 시점의 버전 (Redis 장애 시 null)
+     */
+    public record Lookup(InProgressBooksRes snapshot, String version) {
+
+        public static final Lookup UNAVAILABLE = new Lookup(null, null);
+    }
+}
@@ -1,5 +1,6 @@
 package com.ikdaman.domain.mybook.service;
 
+import com.ikdaman.domain.bookLog.model.BookLogCursorRes;
 import com.ikdaman.domain.bookLog.model.BookLogListRes;
 import com.ikdaman.domain.mybook.model.*;
 import com.ikdaman.global.auth.model.AuthMember;
@@ -10,6 +11,9 @@ import java.util.UUID;
  * 나의 책 서비스
  */
 public interface MyBookService {
+
+    int MAX_CURSOR_LIMIT = 50; // 커서 조회 한 번에 가져올 수 있는 최대 개수
+
     MyBookRes addMyBook(UUID memberId, MyBookReq dto);
 
     // 첫인상
@@ -19,9 +23,13 @@ public interface MyBookService {
 
     MyBookSearchRes searchMyBooks(MyBookSearchReq request, AuthMember authMember);
 
+    MyBookCursorRes searchMyBooksByCursor(MyBookSearchReq request, String cursor, AuthMember authMember);
+
     InProgressBooksRes searchInProgressBooks(AuthMember authMember);
 
     MyBookDetailRes getMyBookDetail(UUID memberId, Long mybookId);
 
     BookLogListRes getMyBookLogs(UUID memberId, Long mybookId, Integer page, Integer limit);
+
+    BookLogCursorRes getMyBookLogsByCursor(UUID memberId, Long mybookId, String cursor, Integer limit);
 }
\ No newline at end of file
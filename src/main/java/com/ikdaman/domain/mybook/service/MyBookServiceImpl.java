@@ -3,21 +3,27 @@ package com.ikdaman.domain.mybook.service;
 import com.ikdaman.domain.bookLog.entity.BookLog;
 import com.ikdaman.domain.bookLog.model.BookLogType;
 import com.ikdaman.domain.bookLog.repository.BookLogRepository;
+import com.ikdaman.domain.bookLog.model.BookLogCursorRes;
 import com.ikdaman.domain.bookLog.model.BookLogListRes;
+import com.ikdaman.domain.bookLog.model.MyBookImpression;
 import com.ikdaman.domain.member.repository.MemberRepository;
 import com.ikdaman.domain.book.entity.Author;
 import com.ikdaman.domain.book.entity.Book;
 import com.ikdaman.domain.mybook.entity.MyBook;
-import com.ikdaman.domain.book.entity.Writer;
+import com.ikdaman.domain.book.model.BookWriterName;
 import com.ikdaman.domain.mybook.model.*;
 import com.ikdaman.domain.book.repository.AuthorRepository;
 import com.ikdaman.domain.book.repository.BookRepository;
 import com.ikdaman.domain.mybook.repository.MyBookRepository;
-import com.ikdaman.domain.book.repository.WriterRepository;
+import com.ikdaman.domain.book.service.BookCatalogService;
 import com.ikdaman.global.exception.BaseException;
 import com.ikdaman.global.auth.model.AuthMember;
+import com.ikdaman.global.util.HangulUtils;
+import com.ikdaman.global.util.PageCursor;
 import lombok.extern.slf4j.Slf4j;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -25,7 +31,10 @@ import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -43,47 +52,19 @@ public class MyBookServiceImpl implements MyBookService {
     private final MyBookRepository myBookRepository;
     private final AuthorRepository authorRepository;
     private final BookRepository bookRepository;
-    private final WriterRepository writerRepository;
     private final BookLogRepository bookLogRepository;
     private final MemberRepository memberRepository;
+    private final HomeSnapshotCache homeSnapshotCache;
+    private final BookCatalogService bookCatalogService;
 
     private final int HOME_DEFAULT_LIMIT = 10;
 
     @Override
     @Transactional
     public MyBookRes addMyBook(UUID memberId, MyBookReq dto) {
-        Writer writer = writerRepository.findByWriterName(dto.getWriter())
-                .orElseGet(() -> writerRepository.save(
-                        Writer.builder()
-                                .writerName(dto.getWriter())
-                                .build()
-                ));
-
-        Book book = bookRepository.findByIsbn(dto.getIsbn())
-                .orElseGet(() -> {
-                    Book newBook = Book.builder()
-                            .title(dto.getTitle())
-                            .publisher(dto.getPublisher())
-                            .isbn(dto.getIsbn())
-                            .page(dto.getPage())
-                            .coverImage(dto.getCoverImage())
-                            .aladinItemId(String.valueOf(dto.getItemId()))
-                            .build();
-
-                    return bookRepository.save(newBook);
-                });
-
-        if (!authorRepository.existsByBookAndWriter(book, writer)) {
-            authorRepository.save(Author.builder()
-                    .book(book)
-                    .writer(writer)
-                    .build());
-        }
-
-        // 한 사용자가 책장에 같은 책을 중복으로 저장할 수 없음
-        if(myBookRepository.existsMyBookByMemberIdAndBook(memberId, book)) {
-            throw new BaseException(MY_BOOK_ALREADY_EXISTS);
-        }
+        // 책/작가/책-작가 연결 등록 (이미 있으면 기존 데이터 사용)
+        int bookId = bookCatalogService.registerBook(dto);
+        Book book = bookRepository.getReferenceById((long) bookId);
 
         MyBook myBook = MyBook.builder()
                 .memberId(memberId)
@@ -92,7 +73,12 @@ public class MyBookServiceImpl implements MyBookService {
                 .isReading(true)
                 .build();
 
-        myBookRepository.save(myBook);
+        // 한 사용자가 책장에 같은 책을 중복으로 저장할 수 없음 (member_id, book_id 유니크 키)
+        try {
+            myBookRepository.saveAndFlush(myBook);
+        } catch (DataIntegrityViolationException e) {
+            throw new BaseException(MY_BOOK_ALREADY_EXISTS);
+        }
 
         if(!dto.getImpression().isEmpty()) {
             BookLog bookLog = BookLog.builder()
@@ -105,6 +91,8 @@ public class MyBookServiceImpl implements MyBookService {
             bookLogRepository.save(bookLog);
         }
 
+        homeSnapshotCache.evictAfterCommit(memberId);
+
         return MyBookRes.builder()
                 .title(dto.getTitle())
                 .writer(dto.getWriter())
@@ -128,11 +116,13 @@ public class MyBookServiceImpl implements MyBookService {
         Book book = bookRepository.findById(Long.valueOf(myBook.getBook().getBookId()))
                 .orElseThrow(() -> new BaseException(NOT_FOUND_BOOK));
 
-        // Author를 통해 writer_name 조회
-        Author author = authorRepository.findByBook(book)
-                .orElseThrow(() -> new BaseException(NOT_FOUND_AUTHOR));
-
-        String writerName = author.getWriter().getWriterName();
+        // 작가명 조회 (비정규화된 값이 없으면 Author를 통해 writer_name 조회)
+        String writerName = book.getAuthorsDisplay();
+        if (writerName == null) {
+            Author author = authorRepository.findByBook(book)
+                    .orElseThrow(() -> new BaseException(NOT_FOUND_AUTHOR));
+            writerName = author.getWriter().getWriterName();
+        }
 
         if(dto.getImpression().isEmpty()) {
             throw new BaseException(EMPTY_IMPRESSION);
@@ -146,6 +136,7 @@ public class MyBookServiceImpl implements MyBookService {
                 .build();
 
         bookLogRepository.save(bookLog);
+        homeSnapshotCache.evictAfterCommit(memberId);
 
         return MyBookRes.builder()
                 .mybookId(myBookId)
@@ -167,72 +158,109 @@ public class MyBookServiceImpl implements MyBookService {
         String keyword = request.getKeyword();
         log.info("keyword: {}", keyword);
 
-        Page<MyBook> resultPage = myBookRepository.searchMyBooks(
-                authMember.getMember().getMemberId(),
-                request.getStatus(),
-                keyword,
-                pageable
-        );
-
-        List<MyBookSearchRes.BookDto> books = resultPage.getContent().stream()
-                .map(myBook -> {
-                    Book book = myBook.getBook();
-                    String authorNames = book.getAuthor().stream()
-                            .map(author -> author.getWriter().getWriterName())
-                            .collect(Collectors.joining(", ")); // 여러 작가면 ,로 구분
-
-                    return MyBookSearchRes.BookDto.builder()
-                            .mybookId(myBook.getMybookId())
-                            .title(book.getTitle())
-                            .author(authorNames)
-                            .coverImage(book.getCoverImage())
-                            .isCompleted(myBook.getNowPage() == book.getPage())
-                            .build();
-                })
-                .toList();
+        // 키워드가 있으면 trigram 인덱스를 사용하는 검색 쿼리로 조회 (유사도 순)
+        Page<MyBookSummary> resultPage = (keyword == null || keyword.isBlank())
+                ? myBookRepository.searchMyBooks(
+                        authMember.getMemberId(),
+                        request.getStatus(),
+                        null,
+                        pageable)
+                : myBookRepository.searchMyBooksByKeyword(
+                        authMember.getMemberId(),
+                        request.getStatus(),
+                        keyword.trim(),
+                        HangulUtils.isChoseongOnly(keyword) ? keyword.trim() : null, // 초성 컬럼도 공백을 유지
+                        pageable);
 
         return MyBookSearchRes.builder()
-                .books(books)
+                .books(toBookDtos(resultPage.getContent()))
                 .nowPage(resultPage.getNumber() + 1)
                 .totalPage(resultPage.getTotalPages())
                 .build();
     }
 
     @Override
+    @Transactional(readOnly = true)
+    public MyBookCursorRes searchMyBooksByCursor(MyBookSearchReq request, String cursor, AuthMember authMember) {
+        PageCursor pageCursor = PageCursor.decode(cursor);
+        int limit = checkLimit(request.getLimit());
+
+        // limit + 1건을 조회해 다음 페이지 존재 여부 판단
+        List<MyBookSummary> rows = (pageCursor == null)
+                ? myBookRepository.searchMyBooksFirst(
+                        authMember.getMemberId(), request.getStatus(), request.getKeyword(), Limit.of(limit + 1))
+                : myBookRepository.searchMyBooksAfter(
+                        authMember.getMemberId(), request.getStatus(), request.getKeyword(),
+                        pageCursor.createdAt(), (int) pageCursor.id(), Limit.of(limit + 1));
+
+        boolean hasNext = rows.size() > limit;
+        List<MyBookSummary> content = hasNext ? rows.subList(0, limit) : rows;
+
+        String nextCursor = null;
+        if (hasNext) {
+            MyBookSummary last = content.get(content.size() - 1);
+            nextCursor = new PageCursor(last.getCreatedAt(), last.getMybookId()).encode();
+        }
+
+        return MyBookCursorRes.builder()
+                .books(toBookDtos(content))
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .build();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
     public InProgressBooksRes searchInProgressBooks(AuthMember authMember) {
-        List<MyBook> myBooks = myBookRepository.findAllActiveReadingBooks(
-                authMember.getMember().getMemberId(),
-                HOME_DEFAULT_LIMIT
-        );
+        UUID memberId = authMember.getMemberId();
+
+        // 스냅샷이 있으면 그대로 반환 (상태 변경 시 커밋 이후 삭제됨)
+        HomeSnapshotCache.Lookup snapshot = homeSnapshotCache.get(memberId);
+        if (snapshot.snapshot() != null) return snapshot.snapshot();
+
+        List<MyBook> myBooks = myBookRepository.findAllActiveReadingBooks(memberId, HOME_DEFAULT_LIMIT);
+
+        // 첫인상은 나의 책 ID 목록으로 한 번에 조회 (가장 먼저 작성한 첫인상 사용)
+        Map<Integer, String> firstImpressions = myBooks.isEmpty()
+                ? Map.of()
+                : bookLogRepository.findImpressionsByMybookIds(myBooks.stream().map(MyBook::getMybookId).toList())
+                        .stream()
+                        .collect(Collectors.toMap(
+                                MyBookImpression::getMybookId,
+                                MyBookImpression::getContent,
+                                (first, ignored) -> first));
+
+        // authors_display가 아직 채워지지 않은 책만 작가 테이블에서 조회
+        Map<Integer, String> authorNames = findAuthorNames(myBooks.stream()
+                .map(MyBook::getBook)
+                .filter(book -> book.getAuthorsDisplay() == null)
+                .map(Book::getBookId)
+                .collect(Collectors.toSet()));
 
         List<InProgressBooksRes.BookDto> bookDtos = myBooks.stream()
                 .map(myBook -> {
                     Book book = myBook.getBook();
-                    String authorNames = book.getAuthor().stream()
-                            .map(author -> author.getWriter().getWriterName())
-                            .collect(Collectors.joining(", ")); // 여러 작가면 ,로 구분
-
-                    String firstImpression = myBook.getBookLogs().stream()
-                            .filter(bookLog -> bookLog.getBooklogType().equals("IMPRESSION"))
-                            .findFirst()
-                            .map(BookLog::getContent)
-                            .orElse(null);
 
                     return InProgressBooksRes.BookDto.builder()
                             .mybookId(myBook.getMybookId())
                             .title(book.getTitle())
-                            .author(authorNames)
+                            .author(book.getAuthorsDisplay() != null
+                                    ? book.getAuthorsDisplay()
+                                    : authorNames.getOrDefault(book.getBookId(), ""))
                             .coverImage(book.getCoverImage())
-                            .progress(String.format("%d", myBook.getNowPage() * 100 / book.getPage()))
-                            .firstImpression(firstImpression)
+                            .progress(String.valueOf(calculateProgress(myBook.getNowPage(), book.getPage())))
+                            .firstImpression(firstImpressions.get(myBook.getMybookId()))
                             .recentEdit(String.valueOf(myBook.getUpdatedAt()))
                             .build();
                 })
                 .collect(Collectors.toList());
 
-        return InProgressBooksRes.builder()
+        InProgressBooksRes res = InProgressBooksRes.builder()
                 .books(bookDtos)
                 .build();
+        // 조회하는 동안 스냅샷이 삭제되었다면 저장하지 않음
+        homeSnapshotCache.put(memberId, snapshot, res);
+        return res;
     }
 
     // 나의 책 정보 조회
@@ -245,10 +273,7 @@ public class MyBookServiceImpl implements MyBookService {
         Book book = myBook.getBook();
 
         // 작가열 생성
-        List<Author> authors = book.getAuthor();
-        String authorNames = authors.stream()
-                .map(a -> a.getWriter().getWriterName())
-                .collect(Collectors.joining(", "));
+        String authorNames = authorNamesOf(book);
 
         // 첫인상 조회
         String impression = bookLogRepository.findFirstByMyBookAndBooklogType(myBook, "IMPRESSION")
@@ -301,6 +326,41 @@ public class MyBookServiceImpl implements MyBookService {
         return new BookLogListRes(booklogs, resultPage.hasNext());
     }
 
+    // 나의 책 기록 커서 조회
+    @Override
+    @Transactional(readOnly = true)
+    public BookLogCursorRes getMyBookLogsByCursor(UUID memberId, Long mybookId, String cursor, Integer limit) {
+        checkLimit(limit);
+
+        // 책 주인 확인
+        getMyBookIfOwner(mybookId, memberId);
+
+        PageCursor pageCursor = PageCursor.decode(cursor);
+        List<BookLog> rows = (pageCursor == null)
+                ? bookLogRepository.findFirstByMybookId(mybookId, Limit.of(limit + 1))
+                : bookLogRepository.findAfterByMybookId(mybookId, pageCursor.createdAt(), pageCursor.id(), Limit.of(limit + 1));
+
+        boolean hasNext = rows.size() > limit;
+        List<BookLog> content = hasNext ? rows.subList(0, limit) : rows;
+
+        String nextCursor = null;
+        if (hasNext) {
+            BookLog last = content.get(content.size() - 1);
+            nextCursor = new PageCursor(last.getCreatedAt(), last.getBooklogId()).encode();
+        }
+
+        List<BookLogListRes.BookLogDTO> booklogs = content.stream()
+                .map(log -> new BookLogListRes.BookLogDTO(
+                        log.getBooklogId(),
+                        log.getCreatedAt().toString(),
+                        log.getPage(),
+                        log.getContent(),
+                        log.getBooklogType()
+                )).toList();
+
+        return new BookLogCursorRes(booklogs, nextCursor, hasNext);
+    }
+
     @Override
     @Transactional
     public void deleteMyBook(UUID memberId, Integer id) {
@@ -314,6 +374,57 @@ public class MyBookServiceImpl implements MyBookService {
         bookLogRepository.deleteByMyBook(myBook);
 
         myBookRepository.delete(myBook);
+        homeSnapshotCache.evictAfterCommit(memberId);
+    }
+
+    // 책장 목록 응답 DTO 변환 (페이지에 포함된 책들의 작가명은 한 번에 조회)
+    private List<MyBookSearchRes.BookDto> toBookDtos(List<MyBookSummary> rows) {
+        // authors_display가 아직 채워지지 않은 책만 작가 테이블에서 조회
+        Map<Integer, String> authorNames = findAuthorNames(rows.stream()
+                .filter(row -> row.getAuthorsDisplay() == null)
+                .map(MyBookSummary::getBookId)
+                .collect(Collectors.toSet()));
+
+        return rows.stream()
+                .map(myBook -> MyBookSearchRes.BookDto.builder()
+                        .mybookId(myBook.getMybookId())
+                        .title(myBook.getTitle())
+                        .author(myBook.getAuthorsDisplay() != null
+                                ? myBook.getAuthorsDisplay()
+                                : authorNames.getOrDefault(myBook.getBookId(), ""))
+                        .coverImage(myBook.getCoverImage())
+                        .isCompleted(myBook.getNowPage().equals(myBook.getPage()))
+                        .build())
+                .toList();
+    }
+
+    // 책의 작가명 (authors_display가 없으면 Author/Writer를 통해 생성)
+    private String authorNamesOf(Book book) {
+        if (book.getAuthorsDisplay() != null) return book.getAuthorsDisplay();
+
+        return book.getAuthor().stream()
+                .map(author -> author.getWriter().getWriterName())
+                .collect(Collectors.joining(Book.AUTHORS_DELIMITER)); // 여러 작가면 ,로 구분
+    }
+
+    // 책 ID별 작가명 조회 (여러 작가면 ,로 구분)
+    private Map<Integer, String> findAuthorNames(Collection<Integer> bookIds) {
+        if (bookIds.isEmpty()) return Map.of();
+
+        return authorRepository.findWriterNamesByBookIds(bookIds).stream()
+                .collect(Collectors.groupingBy(
+                        BookWriterName::getBookId,
+                        LinkedHashMap::new,
+                        Collectors.mapping(BookWriterName::getWriterName, Collectors.joining(Book.AUTHORS_DELIMITER))
+                ));
+    }
+
+    // 커서 조회 개수 확인 (0이면 다음 페이지 판단이 깨지고, 너무 크면 한 번에 모두 조회하게 됨)
+    private static int checkLimit(Integer limit) {
+        if (limit == null || limit < 1 || limit > MAX_CURSOR_LIMIT) {
+            throw new BaseException(BAD_REQUEST_BY_VALIDATION);
+        }
+        return limit;
     }
 
     // 책 주인 확인
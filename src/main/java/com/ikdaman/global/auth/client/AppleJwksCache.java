@@ -0,0 +1,205 @@
+package com.ikdaman.global.auth.client;
+
+import com.ikdaman.global.exception.BaseException;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.math.BigInteger;
+import java.security.KeyFactory;
+import java.security.PublicKey;
+import java.security.spec.RSAPublicKeySpec;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static com.ikdaman.global.exception.ErrorCode.APPLE_SERVER_ERROR;
+
+/**
+ * Apple 공개키(JWKS) 캐시
+ * - kid별로 파싱된 공개키와 JwtParser를 보관
+ * - 만료(Cache-Control max-age, 없으면 keys-ttl-seconds) 전에 백그라운드에서 갱신
+ * - 모르는 kid가 오면 다시 조회하되, 동시에 여러 요청이 와도 조회는 한 번만 수행 (single-flight)
+ * - 조회에 실패하면 기존 키를 계속 사용
+ */
+@Slf4j
+@Component
+public class AppleJwksCache {
+
+    private static final Pattern MAX_AGE = Pattern.compile("max-age=(\\d+)");
+
+    private final WebClient webClient;
+    private final String keysUri;
+    private final Duration defaultTtl;
+    private final Duration refreshAhead;
+    private final Duration minRefetchInterval;
+    private final Duration fetchTimeout;
+    private final Clock clock;
+
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+    private final AtomicReference<CompletableFuture<Snapshot>> inFlight = new AtomicReference<>();
+
+    @Autowired
+    public AppleJwksCache(WebClient webClient,
+                          @Value("${auth.apple.keys-uri:https://appleid.apple.com/auth/keys}") String keysUri,
+                          @Value("${auth.apple.keys-ttl-seconds:3600}") long ttlSeconds,
+                          @Value("${auth.apple.keys-refresh-ahead-seconds:300}") long refreshAheadSeconds,
+                          @Value("${auth.apple.keys-min-refetch-seconds:10}") long minRefetchSeconds,
+                          @Value("${auth.apple.keys-fetch-timeout-ms:3000}") long fetchTimeoutMs) {
+        this(webClient, keysUri, Duration.ofSeconds(ttlSeconds), Duration.ofSeconds(refreshAheadSeconds),
+                Duration.ofSeconds(minRefetchSeconds), Duration.ofMillis(fetchTimeoutMs), Clock.systemUTC());
+    }
+
+    AppleJwksCache(WebClient webClient, String keysUri, Duration defaultTtl, Duration refreshAhead,
+                   Duration minRefetchInterval, Duration fetchTimeout, Clock clock) {
+        this.webClient = webClient;
+        this.keysUri = keysUri;
+        this.defaultTtl = defaultTtl;
+        this.refreshAhead = refreshAhead;
+        this.minRefetchInterval = minRefetchInterval;
+        this.fetchTimeout = fetchTimeout;
+        this.clock = clock;
+    }
+
+    /**
+     * kid에 해당하는 JwtParser 조회 (캐시에 없으면 한 번 다시 조회)
+     * @return 서명 검증용 JwtParser, Apple 키 목록에 없는 kid면 null
+     */
+    public JwtParser getParser(String kid) {
+        if (kid == null) return null;
+
+        Snapshot current = snapshot;
+        JwtParser parser = current.parsers().get(kid);
+        if (parser != null) return parser;
+
+        // 최근에 조회했다면 위조된 kid로 인한 반복 조회 방지
+        if (current.fetchedAt() != null
+                && current.fetchedAt().plus(minRefetchInterval).isAfter(clock.instant())) {
+            return null;
+        }
+        return refresh().parsers().get(kid);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        refresh();
+    }
+
+    /**
+     * 만료가 가까워지면 백그라운드에서 미리 갱신
+     */
+    @Scheduled(fixedDelayString = "${auth.apple.keys-refresh-check-ms:60000}")
+    public void refreshIfExpiring() {
+        Snapshot current = snapshot;
+        if (current.expiresAt() == null || current.expiresAt().minus(refreshAhead).isBefore(clock.instant())) {
+            refresh();
+        }
+    }
+
+    /**
+     * 키 목록 갱신 (진행 중인 조회가 있으면 그 결과를 함께 사용)
+     */
+    Snapshot refresh() {
+        CompletableFuture<Snapshot> mine = new CompletableFuture<>();
+        CompletableFuture<Snapshot> running = inFlight.compareAndExchange(null, mine);
+        if (running != null) return running.join();
+
+        try {
+            snapshot = fetch();
+        } catch (RuntimeException e) {
+            // 조회 실패 시 기존 키 유지 (다음 조회는 minRefetchInterval 이후)
+            log.warn("Apple 공개키 조회 실패, 기존 키 {}개 유지", snapshot.parsers().size(), e);
+            snapshot = snapshot.retryAfterFailure(clock.instant());
+        } finally {
+            inFlight.set(null);
+            mine.complete(snapshot);
+        }
+        return snapshot;
+    }
+
+    private Snapshot fetch() {
+        ResponseEntity<AppleKeysResponse> response = webClient.get()
+                .uri(keysUri)
+                .retrieve()
+                .toEntity(AppleKeysResponse.class)
+                .block(fetchTimeout);
+
+        if (response == null || response.getBody() == null || response.getBody().getKeys() == null) {
+            throw new BaseException(APPLE_SERVER_ERROR);
+        }
+
+        Map<String, JwtParser> parsers = new HashMap<>();
+        for (AppleKey key : response.getBody().getKeys()) {
+            try {
+                parsers.put(key.getKid(), Jwts.parserBuilder().setSigningKey(createPublicKey(key)).build());
+            } catch (Exception e) {
+                log.warn("Apple 공개키 파싱 실패 kid={}", key.getKid(), e);
+            }
+        }
+
+        Instant now = clock.instant();
+        return new Snapshot(Map.copyOf(parsers), now, now.plus(ttlOf(response.getHeaders())));
+    }
+
+    // Cache-Control max-age가 있으면 그 값을, 없으면 기본 TTL 사용
+    private Duration ttlOf(HttpHeaders headers) {
+        String cacheControl = headers.getCacheControl();
+        if (cacheControl != null) {
+            Matcher matcher = MAX_AGE.matcher(cacheControl);
+            if (matcher.find()) return Duration.ofSeconds(Long.parseLong(matcher.group(1)));
+        }
+        return defaultTtl;
+    }
+
+    private PublicKey createPublicKey(AppleKey key) throws Exception {
+        BigInteger n = new BigInteger(1, Base64.getUrlDecoder().decode(key.getN()));
+        BigInteger e = new BigInteger(1, Base64.getUrlDecoder().decode(key.getE()));
+        return KeyFactory.getInstance("RSA").generatePublic(new RSAPublicKeySpec(n, e));
+    }
+
+    record Snapshot(Map<String, JwtParser> parsers, Instant fetchedAt, Instant expiresAt) {
+        static final Snapshot EMPTY = new Snapshot(Map.of(), null, null);
+
+        Snapshot retryAfterFailure(Instant now) {
+            return new Snapshot(parsers, now, expiresAt);
+        }
+    }
+
+    // Apple Keys Response DTO
+    @Setter
+    @Getter
+    public static class AppleKeysResponse {
+        private List<AppleKey> keys;
+    }
+
+    // Apple Key DTO
+    @Setter
+    @Getter
+    public static class AppleKey {
+        private String kty;
+        private String kid;
+        private String use;
+        private String alg;
+        private String n;
+        private String e;
+    }
+}
@@ -1,21 +1,18 @@
 package com.ikdaman.global.auth.client;
 
 import com.google.api.client.googleapis.auth.oauth2.GoogleIdToken;
-import com.google.api.client.googleapis.auth.oauth2.GoogleIdTokenVerifier;
-import com.google.api.client.googleapis.javanet.GoogleNetHttpTransport;
-import com.google.api.client.json.gson.GsonFactory;
 import com.ikdaman.global.auth.enumerate.Provider;
 import com.ikdaman.global.auth.payload.OAuthUserRes;
 import com.ikdaman.global.exception.BaseException;
+import com.ikdaman.global.exception.ExpectedAuthException;
 import lombok.RequiredArgsConstructor;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
 
 import java.io.IOException;
 import java.security.GeneralSecurityException;
-import java.util.Arrays;
 
 import static com.ikdaman.global.exception.ErrorCode.GOOGLE_SERVER_ERROR;
 import static com.ikdaman.global.exception.ErrorCode.INVALID_SOCIAL_ACCESS_TOKEN;
@@ -24,16 +21,9 @@ import static com.ikdaman.global.exception.ErrorCode.INVALID_SOCIAL_ACCESS_TOKEN
 @RequiredArgsConstructor
 public class GoogleClient implements SocialTokenClient {
 
-    @Value("${auth.google.client-id.android}")
-    private String androidClientId;
-
-    @Value("${auth.google.client-id.ios}")
-    private String iosClientId;
-
-    @Value("${auth.google.client-id.web}")
-    private String webClientId;
-
     private final WebClient webClient;
+    private final GoogleTokenVerifier googleTokenVerifier;
+    private final Scheduler blockingScheduler; // boundedElastic 또는 가상 스레드 (SocialClientConfig)
 
     /**
      * accessToken을 사용하여 Google의 userinfo API에서 사용자 정보 조회
@@ -41,24 +31,22 @@ public class GoogleClient implements SocialTokenClient {
      * @param accessToken Google accessToken
      * @return 사용자 Google 계정의 providerId
      */
-    public String getUserDataByAccessToken(String accessToken) {
+    public Mono<String> getUserDataByAccessToken(String accessToken) {
 
         // WebClient를 사용해 Google API 호출
-        OAuthUserRes OAuthUserRes = webClient.get()
+        return webClient.get()
                 .uri("https://www.googleapis.com/oauth2/v2/userinfo") // Google 사용자 정보 요청 URL
                 .header("Authorization", "Bearer " + accessToken)
 //                .headers(h -> h.setBearerAuth("U-" + accessToken)) // 임시로 발급받은 사용자 토큰으로 접근
                 .retrieve()
                 // 4xx 에러 처리
                 .onStatus(status -> status.is4xxClientError(), response
-                        -> Mono.error(new BaseException(INVALID_SOCIAL_ACCESS_TOKEN)))
+                        -> Mono.error(ExpectedAuthException.of(INVALID_SOCIAL_ACCESS_TOKEN)))
                 // 5xx 에러 처리
                 .onStatus(status -> status.is5xxServerError(), response
                         -> Mono.error(new BaseException(GOOGLE_SERVER_ERROR)))
                 .bodyToMono(OAuthUserRes.class) // 유저 정보를 넣을 DTO 클래스
-                .block();
-
-        return String.valueOf(OAuthUserRes.getId());
+                .map(userRes -> String.valueOf(userRes.getId()));
     }
 
     /**
@@ -69,22 +57,10 @@ public class GoogleClient implements SocialTokenClient {
      */
     public String getUserDataByIdToken(String idToken) {
         try {
-            // GoogleIdTokenVerifier를 생성: Google의 공개키로 idToken의 서명을 검증
-            GoogleIdTokenVerifier verifier = new GoogleIdTokenVerifier.Builder(
-                    GoogleNetHttpTransport.newTrustedTransport(),
-                    GsonFactory.getDefaultInstance()
-            )
-                    // idToken의 Audience 설정: 웹, Android, iOS client ID를 모두 허용
-                    .setAudience(Arrays.asList(
-                            webClientId,
-                            androidClientId,
-                            iosClientId
-                    ))
-                    .build();
-
-            GoogleIdToken googleIdToken = verifier.verify(idToken);
+            // Google의 공개키로 idToken의 서명을 검증 (검증기와 공개키는 재사용)
+            GoogleIdToken googleIdToken = googleTokenVerifier.verify(idToken);
             if (googleIdToken == null) {
-                throw new BaseException(INVALID_SOCIAL_ACCESS_TOKEN);
+                throw ExpectedAuthException.of(INVALID_SOCIAL_ACCESS_TOKEN);
             }
 
             // Payload에서 Google의 "sub" (providerId) 추출
@@ -103,7 +79,9 @@ public class GoogleClient implements SocialTokenClient {
     }
 
     @Override
-    public String extractProviderId(String token) {
-        return this.getUserDataByIdToken(token);
+    public Mono<String> fetchProviderId(String token) {
+        // 서명 검증(인증서 갱신 포함)은 블로킹 작업이므로 별도 스레드에서 수행
+        return Mono.fromCallable(() -> this.getUserDataByIdToken(token))
+                .subscribeOn(blockingScheduler);
     }
 }
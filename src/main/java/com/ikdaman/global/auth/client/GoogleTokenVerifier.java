@@ -0,0 +1,136 @@
+package com.ikdaman.global.auth.client;
+
+import com.google.api.client.googleapis.auth.oauth2.GoogleIdToken;
+import com.google.api.client.googleapis.auth.oauth2.GoogleIdTokenVerifier;
+import com.google.api.client.googleapis.auth.oauth2.GoogleOAuthConstants;
+import com.google.api.client.googleapis.auth.oauth2.GooglePublicKeysManager;
+import com.google.api.client.googleapis.javanet.GoogleNetHttpTransport;
+import com.google.api.client.http.HttpTransport;
+import com.google.api.client.json.gson.GsonFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.security.GeneralSecurityException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Google idToken 검증기
+ * - HTTP transport, 공개키(인증서) 캐시, GoogleIdTokenVerifier를 한 번만 생성해 재사용
+ * - 기동 시 인증서를 미리 받아두고, 만료 refresh-ahead 전에 백그라운드에서 갱신
+ *   (GooglePublicKeysManager는 만료 5분 전부터 요청 스레드에서 갱신하므로 그보다 먼저 갱신)
+ * - GooglePublicKeysManager.refresh()는 기존 공개키를 비운 뒤 조회하므로, 갱신은 새 검증기에서 받아
+ *   성공했을 때만 교체 (실패하면 기존 검증기와 인증서를 그대로 사용)
+ * - 검증 소요 시간을 auth.google.verify 타이머로 기록 (outcome: success, invalid, error)
+ */
+@Slf4j
+@Component
+public class GoogleTokenVerifier {
+
+    private final HttpTransport transport;
+    private final String certsUrl;
+    private final List<String> audience;
+    private final AtomicReference<GoogleIdTokenVerifier> verifier;
+    private final Duration refreshAhead;
+
+    private final Timer successTimer;
+    private final Timer invalidTimer;
+    private final Timer errorTimer;
+
+    @Autowired
+    public GoogleTokenVerifier(@Value("${auth.google.client-id.android}") String androidClientId,
+                               @Value("${auth.google.client-id.ios}") String iosClientId,
+                               @Value("${auth.google.client-id.web}") String webClientId,
+                               @Value("${auth.google.certs-refresh-ahead-seconds:600}") long refreshAheadSeconds,
+                               MeterRegistry meterRegistry) throws GeneralSecurityException, IOException {
+        // idToken의 Audience 설정: 웹, Android, iOS client ID를 모두 허용
+        this(GoogleNetHttpTransport.newTrustedTransport(), GoogleOAuthConstants.DEFAULT_PUBLIC_CERTS_ENCODED_URL,
+                List.of(webClientId, androidClientId, iosClientId), Duration.ofSeconds(refreshAheadSeconds),
+                meterRegistry);
+    }
+
+    GoogleTokenVerifier(HttpTransport transport, String certsUrl, List<String> audience, Duration refreshAhead,
+                        MeterRegistry meterRegistry) {
+        this.transport = transport;
+        this.certsUrl = certsUrl;
+        this.audience = audience;
+        this.verifier = new AtomicReference<>(newVerifier());
+        this.refreshAhead = refreshAhead;
+
+        this.successTimer = verifyTimer("success", meterRegistry);
+        this.invalidTimer = verifyTimer("invalid", meterRegistry);
+        this.errorTimer = verifyTimer("error", meterRegistry);
+    }
+
+    /**
+     * idToken 서명/Audience/만료 검증
+     * @return 검증된 토큰, 유효하지 않으면 null
+     */
+    public GoogleIdToken verify(String idToken) throws GeneralSecurityException, IOException {
+        long start = System.nanoTime();
+        Timer timer = errorTimer;
+        try {
+            GoogleIdToken token = verifier.get().verify(idToken);
+            timer = (token == null) ? invalidTimer : successTimer;
+            return token;
+        } catch (IllegalArgumentException e) {
+            // 형식이 잘못된 토큰
+            timer = invalidTimer;
+            return null;
+        } finally {
+            timer.record(Duration.ofNanos(System.nanoTime() - start));
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        refreshCerts();
+    }
+
+    /**
+     * 만료가 가까워지면 백그라운드에서 미리 갱신
+     */
+    @Scheduled(fixedDelayString = "${auth.google.certs-refresh-check-ms:60000}")
+    public void refreshIfExpiring() {
+        long expiresAt = verifier.get().getPublicKeysManager().getExpirationTimeMilliseconds();
+        if (expiresAt - refreshAhead.toMillis() <= System.currentTimeMillis()) {
+            refreshCerts();
+        }
+    }
+
+    // 새 검증기로 인증서를 받아 성공했을 때만 교체, 실패하면 기존 인증서를 계속 사용
+    private void refreshCerts() {
+        GoogleIdTokenVerifier refreshed = newVerifier();
+        try {
+            refreshed.getPublicKeysManager().refresh();
+            verifier.set(refreshed);
+        } catch (GeneralSecurityException | IOException e) {
+            log.warn("Google 인증서 갱신 실패", e);
+        }
+    }
+
+    private GoogleIdTokenVerifier newVerifier() {
+        GooglePublicKeysManager publicKeysManager = new GooglePublicKeysManager.Builder(transport, GsonFactory.getDefaultInstance())
+                .setPublicCertsEncodedUrl(certsUrl)
+                .build();
+        return new GoogleIdTokenVerifier.Builder(publicKeysManager)
+                .setAudience(audience)
+                .build();
+    }
+
+    private static Timer verifyTimer(String outcome, MeterRegistry meterRegistry) {
+        return Timer.builder("auth.google.verify")
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+}
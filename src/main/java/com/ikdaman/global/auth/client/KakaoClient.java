@@ -3,7 +3,9 @@ package com.ikdaman.global.auth.client;
 import com.ikdaman.global.auth.enumerate.Provider;
 import com.ikdaman.global.auth.payload.OAuthUserRes;
 import com.ikdaman.global.exception.BaseException;
+import com.ikdaman.global.exception.ExpectedAuthException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpHeaders;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
@@ -16,23 +18,24 @@ import static com.ikdaman.global.exception.ErrorCode.KAKAO_SERVER_ERROR;
 @RequiredArgsConstructor
 public class KakaoClient implements SocialTokenClient {
 
+    @Value("${auth.kakao.user-info-uri:https://kapi.kakao.com/v2/user/me}")
+    private String userInfoUri; // Kakao의 유저 정보 받아오는 url
+
     private final WebClient webClient;
 
-    public String getUserData(String accessToken) {
-        OAuthUserRes OAuthUserRes = webClient.get()
-                .uri("https://kapi.kakao.com/v2/user/me") // Kakao의 유저 정보 받아오는 url
+    public Mono<String> getUserData(String accessToken) {
+        return webClient.get()
+                .uri(userInfoUri)
                 .header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken)
 //                .headers(h -> h.setBearerAuth("U-" + accessToken)) // 임시로 발급받은 사용자 토큰으로 접근
                 .retrieve()
                 // onStatus <- error handling
                 .onStatus(status -> status.is4xxClientError(), response
-                        -> Mono.error(new BaseException(INVALID_SOCIAL_ACCESS_TOKEN)))
+                        -> Mono.error(ExpectedAuthException.of(INVALID_SOCIAL_ACCESS_TOKEN)))
                 .onStatus(status -> status.is5xxServerError(), response
                         -> Mono.error(new BaseException(KAKAO_SERVER_ERROR)))
                 .bodyToMono(OAuthUserRes.class) // Kakao의 유저 정보를 넣을 DTO 클래스
-                .block();
-
-        return String.valueOf(OAuthUserRes.getId());
+                .map(userRes -> String.valueOf(userRes.getId()));
     }
 
     @Override
@@ -41,7 +44,7 @@ public class KakaoClient implements SocialTokenClient {
     }
 
     @Override
-    public String extractProviderId(String token) {
+    public Mono<String> fetchProviderId(String token) {
         return this.getUserData(token);
     }
 }
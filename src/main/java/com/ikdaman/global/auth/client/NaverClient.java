@@ -3,7 +3,9 @@ package com.ikdaman.global.auth.client;
 import com.ikdaman.global.auth.enumerate.Provider;
 import com.ikdaman.global.auth.payload.NaverUserRes;
 import com.ikdaman.global.exception.BaseException;
+import com.ikdaman.global.exception.ExpectedAuthException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
 import reactor.core.publisher.Mono;
@@ -15,23 +17,24 @@ import static com.ikdaman.global.exception.ErrorCode.NAVER_SERVER_ERROR;
 @RequiredArgsConstructor
 public class NaverClient implements SocialTokenClient {
 
+    @Value("${auth.naver.user-info-uri:https://openapi.naver.com/v1/nid/me}")
+    private String userInfoUri; // Naver의 유저 정보 받아오는 url
+
     private final WebClient webClient;
 
-    public String getUserData(String accessToken) {
-        NaverUserRes userRes = webClient.get()
-                .uri("https://openapi.naver.com/v1/nid/me") // Naver의 유저 정보 받아오는 url
+    public Mono<String> getUserData(String accessToken) {
+        return webClient.get()
+                .uri(userInfoUri)
                 .header("Authorization", "Bearer " + accessToken)
 //                .headers(h -> h.setBearerAuth("U-" + accessToken)) // 임시로 발급받은 사용자 토큰으로 접근
                 .retrieve()
                 // onStatus <- error handling
                 .onStatus(status -> status.is4xxClientError(), response
-                        -> Mono.error(new BaseException(INVALID_SOCIAL_ACCESS_TOKEN)))
+                        -> Mono.error(ExpectedAuthException.of(INVALID_SOCIAL_ACCESS_TOKEN)))
                 .onStatus(status -> status.is5xxServerError(), response
                         -> Mono.error(new BaseException(NAVER_SERVER_ERROR)))
                 .bodyToMono(NaverUserRes.class) // 유저 정보를 넣을 DTO 클래스
-                .block();
-
-        return userRes.getResponse().getId();
+                .map(userRes -> userRes.getResponse().getId());
     }
 
     @Override
@@ -40,7 +43,7 @@ public class NaverClient implements SocialTokenClient {
     }
 
     @Override
-    public String extractProviderId(String token) {
+    public Mono<String> fetchProviderId(String token) {
         return this.getUserData(token);
     }
 }
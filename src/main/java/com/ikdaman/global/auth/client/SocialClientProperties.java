@@ -0,0 +1,48 @@
+package com.ikdaman.global.auth.client;
+
+import com.ikdaman.global.auth.enumerate.Provider;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 소셜 토큰 검증 호출 설정 (제공자별)
+ * Ex. auth.social.providers.kakao.timeout=2s
+ *     auth.social.providers.kakao.max-concurrent-calls=100
+ *     auth.social.providers.kakao.failure-rate-threshold=50
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "auth.social")
+public class SocialClientProperties {
+
+    private static final Policy DEFAULT_POLICY = new Policy();
+
+    private Map<Provider, Policy> providers = new EnumMap<>(Provider.class);
+
+    public Policy of(Provider provider) {
+        return providers.getOrDefault(provider, DEFAULT_POLICY);
+    }
+
+    @Getter
+    @Setter
+    public static class Policy {
+        private Duration timeout = Duration.ofSeconds(3); // 응답 대기 시간
+        private int maxConcurrentCalls = 50;              // 동시에 진행할 수 있는 최대 호출 수 (초과 시 바로 실패)
+
+        // 서킷 브레이커
+        private float failureRateThreshold = 50;                  // 실패율(%)이 이 값 이상이면 차단
+        private int slidingWindowSize = 20;                       // 실패율 계산에 사용할 최근 호출 수
+        private int minimumNumberOfCalls = 10;                    // 실패율 계산을 시작할 최소 호출 수
+        private Duration waitDurationInOpenState = Duration.ofSeconds(30); // 차단 유지 시간 (이후 일부 호출로 복구 확인)
+        private int permittedCallsInHalfOpenState = 3;            // 복구 확인에 사용할 호출 수
+
+        // 재시도 (제공자 5xx/지연/연결 오류에만 적용)
+        private int maxRetries = 1;                               // 최대 재시도 횟수
+        private Duration retryBackoff = Duration.ofMillis(100);   // 첫 재시도 대기 시간 (이후 지수 증가, ±50% jitter)
+    }
+}
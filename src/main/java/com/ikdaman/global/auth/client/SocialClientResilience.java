@@ -0,0 +1,104 @@
+package com.ikdaman.global.auth.client;
+
+import com.ikdaman.global.auth.enumerate.Provider;
+import com.ikdaman.global.exception.BaseException;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.micrometer.tagged.TaggedBulkheadMetrics;
+import io.github.resilience4j.micrometer.tagged.TaggedCircuitBreakerMetrics;
+import io.github.resilience4j.reactor.bulkhead.operator.BulkheadOperator;
+import io.github.resilience4j.reactor.circuitbreaker.operator.CircuitBreakerOperator;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 소셜 토큰 검증 호출 보호 (제공자별)
+ * - 재시도(지수 backoff + jitter) → 서킷 브레이커 → 동시 호출 수 제한 → timeout 순으로 감쌈
+ * - 제공자 장애(5xx, 지연, 연결 오류)만 실패로 집계/재시도하고, 잘못된 토큰(4xx)은 그대로 반환
+ * - 상태는 resilience4j.circuitbreaker.*, resilience4j.bulkhead.* 메트릭(name=제공자)으로 노출
+ */
+@Slf4j
+@Component
+public class SocialClientResilience {
+
+    private final SocialClientProperties properties;
+    private final Map<Provider, CircuitBreaker> circuitBreakers = new EnumMap<>(Provider.class);
+    private final Map<Provider, Bulkhead> bulkheads = new EnumMap<>(Provider.class);
+    private final Map<Provider, Counter> retryCounters = new EnumMap<>(Provider.class);
+
+    public SocialClientResilience(SocialClientProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+
+        CircuitBreakerRegistry circuitBreakerRegistry = CircuitBreakerRegistry.ofDefaults();
+        BulkheadRegistry bulkheadRegistry = BulkheadRegistry.ofDefaults();
+
+        for (Provider provider : Provider.values()) {
+            SocialClientProperties.Policy policy = properties.of(provider);
+
+            circuitBreakers.put(provider, circuitBreakerRegistry.circuitBreaker(provider.name(),
+                    CircuitBreakerConfig.custom()
+                            .failureRateThreshold(policy.getFailureRateThreshold())
+                            .slidingWindowSize(policy.getSlidingWindowSize())
+                            .minimumNumberOfCalls(policy.getMinimumNumberOfCalls())
+                            .waitDurationInOpenState(policy.getWaitDurationInOpenState())
+                            .permittedNumberOfCallsInHalfOpenState(policy.getPermittedCallsInHalfOpenState())
+                            .recordException(e -> isProviderFailure(provider, e))
+                            .build()));
+
+            // 자리가 없으면 기다리지 않고 바로 실패
+            bulkheads.put(provider, bulkheadRegistry.bulkhead(provider.name(),
+                    BulkheadConfig.custom()
+                            .maxConcurrentCalls(policy.getMaxConcurrentCalls())
+                            .maxWaitDuration(Duration.ZERO)
+                            .build()));
+
+            retryCounters.put(provider, Counter.builder("auth.social.retries")
+                    .tag("provider", provider.name())
+                    .register(meterRegistry));
+        }
+
+        TaggedCircuitBreakerMetrics.ofCircuitBreakerRegistry(circuitBreakerRegistry).bindTo(meterRegistry);
+        TaggedBulkheadMetrics.ofBulkheadRegistry(bulkheadRegistry).bindTo(meterRegistry);
+    }
+
+    /**
+     * 제공자 호출에 timeout, 동시 호출 수 제한, 서킷 브레이커, 재시도 적용
+     */
+    public Mono<String> decorate(Provider provider, Mono<String> call) {
+        SocialClientProperties.Policy policy = properties.of(provider);
+
+        return call
+                .timeout(policy.getTimeout())
+                .transformDeferred(BulkheadOperator.of(bulkheads.get(provider)))
+                .transformDeferred(CircuitBreakerOperator.of(circuitBreakers.get(provider)))
+                .retryWhen(Retry.backoff(policy.getMaxRetries(), policy.getRetryBackoff())
+                        .jitter(0.5)
+                        .filter(e -> isProviderFailure(provider, e))
+                        .doBeforeRetry(signal -> retryCounters.get(provider).increment())
+                        .onRetryExhaustedThrow((spec, signal) -> signal.failure()));
+    }
+
+    public CircuitBreaker.State state(Provider provider) {
+        return circuitBreakers.get(provider).getState();
+    }
+
+    // 제공자 쪽 장애 여부 (잘못된 토큰, 차단/동시 호출 초과로 인한 실패는 제외)
+    private static boolean isProviderFailure(Provider provider, Throwable e) {
+        if (e instanceof BaseException be) return be.getErrorCode() == provider.getServerError();
+        return e instanceof TimeoutException || e instanceof WebClientRequestException;
+    }
+}
@@ -0,0 +1,45 @@
+package com.ikdaman.global.auth.client;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.ikdaman.global.auth.enumerate.Provider;
+import com.ikdaman.global.auth.util.TokenDigestUtil;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * 소셜 토큰 → providerId 단기 캐시
+ * - 네트워크가 불안정할 때 앱이 반복 요청하는 로그인 재시도가 제공자 호출로 이어지지 않도록 몇 초간 결과를 보관
+ * - 토큰 원문이 아닌 SHA-256 digest를 키로 사용
+ * - 같은 토큰으로 동시에 들어온 요청은 하나의 제공자 호출 결과를 함께 사용 (실패한 결과는 보관하지 않음)
+ */
+@Component
+public class SocialProviderIdCache {
+
+    private final AsyncCache<String, String> cache;
+
+    public SocialProviderIdCache(@Value("${auth.social.provider-id-cache.ttl-seconds:5}") long ttlSeconds,
+                                 @Value("${auth.social.provider-id-cache.max-size:10000}") long maxSize,
+                                 MeterRegistry meterRegistry) {
+        this.cache = CaffeineCacheMetrics.monitor(meterRegistry, Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .<String, String>buildAsync(), "auth.social.provider-id");
+    }
+
+    /**
+     * 캐시된 providerId 조회, 없으면 loader로 제공자를 호출해 저장
+     */
+    public Mono<String> get(Provider provider, String token, Supplier<Mono<String>> loader) {
+        String key = provider.name() + ":" + TokenDigestUtil.sha256(token);
+        // 요청 하나가 취소되어도 같은 결과를 기다리는 다른 요청에는 영향이 없도록 취소를 전파하지 않음
+        return Mono.defer(() -> Mono.fromFuture(cache.get(key, (k, executor) -> loader.get().toFuture()), true));
+    }
+}
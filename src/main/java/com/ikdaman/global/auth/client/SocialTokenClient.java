@@ -1,11 +1,23 @@
 package com.ikdaman.global.auth.client;
 
 import com.ikdaman.global.auth.enumerate.Provider;
+import reactor.core.publisher.Mono;
 
 /**
  * 소셜 토큰 검증/파싱
  */
 public interface SocialTokenClient {
     Provider provider();
-    String extractProviderId(String token);
+
+    /**
+     * 토큰을 검증하고 providerId 추출 (호출 스레드를 막지 않음)
+     */
+    Mono<String> fetchProviderId(String token);
+
+    /**
+     * 토큰을 검증하고 providerId 추출 (결과가 나올 때까지 호출 스레드 대기)
+     */
+    default String extractProviderId(String token) {
+        return fetchProviderId(token).block();
+    }
 }
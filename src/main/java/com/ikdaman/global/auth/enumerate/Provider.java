@@ -1,14 +1,24 @@
 package com.ikdaman.global.auth.enumerate;
 
 import com.ikdaman.global.exception.BaseException;
+import com.ikdaman.global.exception.ErrorCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
 
-import static com.ikdaman.global.exception.ErrorCode.INVALID_SOCIAL_PROVIDER;
+import static com.ikdaman.global.exception.ErrorCode.*;
 
 /**
  * 소셜 로그인 제공자
  */
+@Getter
+@RequiredArgsConstructor
 public enum Provider {
-    KAKAO, NAVER, GOOGLE, APPLE;
+    KAKAO(KAKAO_SERVER_ERROR),
+    NAVER(NAVER_SERVER_ERROR),
+    GOOGLE(GOOGLE_SERVER_ERROR),
+    APPLE(APPLE_SERVER_ERROR);
+
+    private final ErrorCode serverError; // 제공자 서버 장애/지연 시 응답할 에러
 
     /**
      * 문자열 to Enum
@@ -0,0 +1,10 @@
+package com.ikdaman.global.auth.enumerate;
+
+/**
+ * 요청 경로의 인증 구분
+ */
+public enum RouteType {
+    PUBLIC,         // 토큰 없이 접근 가능
+    AUTHENTICATED,  // 로그인한 사용자
+    ADMIN           // 관리자
+}
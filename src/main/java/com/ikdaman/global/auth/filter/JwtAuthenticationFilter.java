@@ -1,5 +1,6 @@
 package com.ikdaman.global.auth.filter;
 
+import com.ikdaman.global.auth.enumerate.RouteType;
 import com.ikdaman.global.auth.token.AuthToken;
 import com.ikdaman.global.auth.token.AuthTokenProvider;
 import com.ikdaman.global.auth.util.JwtHeaderUtil;
@@ -7,30 +8,26 @@ import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
-import java.util.List;
 import java.util.UUID;
 
-@RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final AuthTokenProvider tokenProvider;
+    private final RouteClassifier routeClassifier;
 
-    private static final List<String> NO_CHECK_URLS = List.of(
-            "/auth/login",
-            "/auth/reissue",
-            "/members/check"
-    );
+    public JwtAuthenticationFilter(AuthTokenProvider tokenProvider, RouteClassifier routeClassifier) {
+        this.tokenProvider = tokenProvider;
+        this.routeClassifier = routeClassifier;
+    }
 
     @Override
     protected boolean shouldNotFilter(HttpServletRequest request) {
-        String path = request.getRequestURI();
-        return NO_CHECK_URLS.contains(path);  // 토큰 검사 제외
+        return routeClassifier.classify(request) == RouteType.PUBLIC;  // 토큰 검사 제외
     }
 
     @Override
@@ -39,11 +36,9 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             HttpServletResponse response,
             FilterChain filterChain) throws ServletException, IOException {
 
-        final String authorizationHeader = request.getHeader("Authorization"); // Authorization 헤더 꺼냄
-
-        if (authorizationHeader != null && authorizationHeader.startsWith("Bearer ")) { // JWT 토큰 존재하는지 확인
-            String tokenStr = JwtHeaderUtil.getAccessToken(request); // Bearer로 시작하는 값에서 Bearer를 제거한 accessToken(여기선 appToken) 반환
+        String tokenStr = JwtHeaderUtil.getAccessToken(request); // Bearer로 시작하는 값에서 Bearer를 제거한 accessToken(여기선 appToken) 반환
 
+        if (tokenStr != null) { // JWT 토큰 존재하는지 확인
             AuthToken token = tokenProvider.convertAuthToken(tokenStr); // String to AuthToken
 
             if (token.validate()) { // token이 유효한지 확인
@@ -54,8 +49,9 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                 String memberId = token.getTokenClaims().getSubject();
                 request.setAttribute("memberId", UUID.fromString(memberId));
             }
-
-            filterChain.doFilter(request, response);
         }
+
+        // 토큰이 없어도 다음 필터로 넘겨 인가 단계에서 처리 (응답 없이 끝나지 않도록)
+        filterChain.doFilter(request, response);
     }
 }
@@ -0,0 +1,138 @@
+package com.ikdaman.global.auth.filter;
+
+import com.ikdaman.global.auth.enumerate.RouteType;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.web.util.matcher.RequestMatcher;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 요청 경로를 PUBLIC / AUTHENTICATED / ADMIN 으로 구분
+ * - 기동 시 경로 목록을 경로 세그먼트 trie로 변환 (정확한 경로, "/**"로 끝나는 접두 경로)
+ * - context path, 끝의 '/', 경로 파라미터(;jsessionid 등)는 제외하고 요청마다 문자열 생성 없이 비교
+ * - 정확히 일치하는 경로가 우선이고, 접두 경로는 가장 긴 것을 사용 (없으면 AUTHENTICATED)
+ * - JwtAuthenticationFilter와 보안 설정(matcher)이 같은 구분을 사용
+ *
+ * Ex. auth.routes.public=/auth/login,/docs/**
+ */
+@Component
+public class RouteClassifier {
+
+    public static final List<String> DEFAULT_PUBLIC_ROUTES = List.of(
+            "/auth/login",
+            "/auth/reissue",
+            "/members/check"
+    );
+    public static final List<String> DEFAULT_ADMIN_ROUTES = List.of(
+            "/admin/**"
+    );
+
+    private static final String PREFIX_SUFFIX = "/**";
+
+    private final Node root = new Node();
+
+    public RouteClassifier(@Value("${auth.routes.public:}") List<String> publicRoutes,
+                           @Value("${auth.routes.admin:}") List<String> adminRoutes) {
+        register(publicRoutes.isEmpty() ? DEFAULT_PUBLIC_ROUTES : publicRoutes, RouteType.PUBLIC);
+        register(adminRoutes.isEmpty() ? DEFAULT_ADMIN_ROUTES : adminRoutes, RouteType.ADMIN);
+    }
+
+    /**
+     * auth.routes.* 설정 없이 기본 경로만 사용 (테스트, 벤치마크용 - 애플리케이션에서는 빈을 주입받아 사용)
+     */
+    public static RouteClassifier withDefaults() {
+        return new RouteClassifier(List.of(), List.of());
+    }
+
+    public RouteType classify(HttpServletRequest request) {
+        String uri = request.getRequestURI();
+        String contextPath = request.getContextPath();
+        int start = (contextPath != null && !contextPath.isEmpty() && uri.startsWith(contextPath)) ? contextPath.length() : 0;
+        return classify(uri, start);
+    }
+
+    /**
+     * @param path context path를 제외한 경로
+     */
+    public RouteType classify(String path) {
+        return classify(path, 0);
+    }
+
+    /**
+     * 보안 설정에서 사용할 matcher (Ex. requestMatchers(routeClassifier.matcher(RouteType.PUBLIC)).permitAll())
+     */
+    public RequestMatcher matcher(RouteType type) {
+        return request -> classify(request) == type;
+    }
+
+    private RouteType classify(String uri, int start) {
+        int end = uri.indexOf(';', start);
+        if (end < 0) end = uri.length();
+        while (end - start > 1 && uri.charAt(end - 1) == '/') end--;
+
+        // 세그먼트 단위로 trie를 따라가며 (문자열 생성 없이) 정확한 경로 또는 가장 긴 접두 경로 선택
+        Node node = root;
+        RouteType matched = root.prefix;
+        int segmentStart = start + 1;
+        while (segmentStart < end) {
+            int segmentEnd = uri.indexOf('/', segmentStart);
+            if (segmentEnd < 0 || segmentEnd > end) segmentEnd = end;
+            node = node.child(uri, segmentStart, segmentEnd - segmentStart);
+            if (node == null) break;
+            if (node.prefix != null) matched = node.prefix;
+            segmentStart = segmentEnd + 1;
+        }
+        if (node != null && node.exact != null) return node.exact;
+        return (matched != null) ? matched : RouteType.AUTHENTICATED;
+    }
+
+    private void register(List<String> routes, RouteType type) {
+        for (String route : routes) {
+            String trimmed = route.trim();
+            if (trimmed.isEmpty()) continue;
+            if (!trimmed.startsWith("/")) throw new IllegalArgumentException("경로는 '/'로 시작해야 합니다: " + route);
+
+            boolean prefix = trimmed.endsWith(PREFIX_SUFFIX);
+            String path = prefix ? trimmed.substring(0, trimmed.length() - PREFIX_SUFFIX.length()) : trimmed;
+            Node node = root;
+            for (String segment : path.split("/")) {
+                if (segment.isEmpty()) continue;
+                node = node.addChild(segment);
+            }
+            if (prefix) {
+                node.prefix = type;
+            } else {
+                node.exact = type;
+            }
+        }
+    }
+
+    // 경로 세그먼트 하나에 해당하는 노드 (자식 수가 적어 배열로 순차 비교)
+    private static final class Node {
+        private String[] segments = new String[0];
+        private Node[] children = new Node[0];
+        private RouteType exact;   // 이 노드까지가 정확한 경로인 경우
+        private RouteType prefix;  // 이 노드 이하 전체가 접두 경로인 경우
+
+        Node child(String uri, int offset, int length) {
+            for (int i = 0; i < segments.length; i++) {
+                String segment = segments[i];
+                if (segment.length() == length && uri.regionMatches(offset, segment, 0, length)) return children[i];
+            }
+            return null;
+        }
+
+        Node addChild(String segment) {
+            for (int i = 0; i < segments.length; i++) {
+                if (segments[i].equals(segment)) return children[i];
+            }
+            segments = Arrays.copyOf(segments, segments.length + 1);
+            children = Arrays.copyOf(children, children.length + 1);
+            segments[segments.length - 1] = segment;
+            return children[children.length - 1] = new Node();
+        }
+    }
+}
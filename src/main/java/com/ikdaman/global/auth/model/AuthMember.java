@@ -8,16 +8,39 @@ import org.springframework.security.core.userdetails.UserDetails;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.UUID;
+import java.util.function.Supplier;
 
+/**
+ * 인증된 회원 정보
+ * - memberId는 토큰에서 바로 꺼내 사용
+ * - Member 엔티티는 getMember()가 처음 호출될 때 조회
+ */
 public class AuthMember implements UserDetails {
 
-    private final Member member;
+    private final UUID memberId;
+    private final Supplier<Member> memberLoader;
+    private Member member;
 
     public AuthMember(Member member) {
+        this.memberId = member.getMemberId();
+        this.memberLoader = () -> member;
         this.member = member;
     }
 
+    public AuthMember(UUID memberId, Supplier<Member> memberLoader) {
+        this.memberId = memberId;
+        this.memberLoader = memberLoader;
+    }
+
+    public UUID getMemberId() {
+        return memberId;
+    }
+
     public Member getMember() {
+        if (member == null) {
+            member = memberLoader.get();
+        }
         return member;
     }
 
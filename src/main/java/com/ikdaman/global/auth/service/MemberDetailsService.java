@@ -1,8 +1,11 @@
 package com.ikdaman.global.auth.service;
 
 import com.ikdaman.domain.member.entity.Member;
+import com.ikdaman.domain.member.model.CachedMember;
 import com.ikdaman.domain.member.repository.MemberRepository;
+import com.ikdaman.domain.member.service.MemberCache;
 import com.ikdaman.global.auth.model.AuthMember;
+import com.ikdaman.global.exception.BaseException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
@@ -10,15 +13,42 @@ import org.springframework.stereotype.Service;
 
 import java.util.UUID;
 
+import static com.ikdaman.global.exception.ErrorCode.NOT_FOUND_USER;
+
 @Service
 @RequiredArgsConstructor
 public class MemberDetailsService implements org.springframework.security.core.userdetails.UserDetailsService {
     private final MemberRepository memberRepository;
+    private final RevokedMemberRegistry revokedMemberRegistry;
+    private final MemberCache memberCache;
 
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
-        Member member = memberRepository.findByMemberIdAndStatus(UUID.fromString(username), Member.Status.ACTIVE).orElseThrow(() -> new UsernameNotFoundException("사용자를 찾을 수 없습니다."));
+        UUID memberId = UUID.fromString(username);
+        // 활성 회원 여부는 회원 캐시로 확인하고, 엔티티는 필요할 때 조회
+        memberCache.get(memberId)
+                .filter(CachedMember::isActive)
+                .orElseThrow(() -> new UsernameNotFoundException("사용자를 찾을 수 없습니다."));
+
+        return new AuthMember(memberId, () -> loadActiveMember(memberId));
+    }
+
+    /**
+     * DB 조회 없이 토큰의 subject(memberId)로 인증 정보 생성
+     * - 탈퇴 여부는 RevokedMemberRegistry로 확인
+     * - Member 엔티티는 실제로 필요할 때 조회
+     */
+    public UserDetails loadUserByMemberId(String memberId) throws UsernameNotFoundException {
+        UUID id = UUID.fromString(memberId);
+        if (revokedMemberRegistry.isRevoked(id)) {
+            throw new UsernameNotFoundException("사용자를 찾을 수 없습니다.");
+        }
+
+        return new AuthMember(id, () -> loadActiveMember(id));
+    }
 
-        return new AuthMember(member);
+    private Member loadActiveMember(UUID memberId) {
+        return memberRepository.findByMemberIdAndStatus(memberId, Member.Status.ACTIVE)
+                .orElseThrow(() -> new BaseException(NOT_FOUND_USER));
     }
 }
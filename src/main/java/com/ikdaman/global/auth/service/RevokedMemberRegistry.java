@@ -0,0 +1,33 @@
+package com.ikdaman.global.auth.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 탈퇴 등으로 더 이상 인증되면 안 되는 회원 목록 (Redis)
+ * - AccessToken 만료 시간 동안만 보관하면 이전에 발급된 토큰이 모두 만료됨
+ */
+@Service
+@RequiredArgsConstructor
+public class RevokedMemberRegistry {
+
+    private static final String KEY_PREFIX = "MRVK: ";
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    @Value("${auth.access-token-validity}")
+    private long accessExpiry; // AccessToken 만료일
+
+    public void revoke(UUID memberId) {
+        redisTemplate.opsForValue().set(KEY_PREFIX + memberId, "1", accessExpiry, TimeUnit.MILLISECONDS);
+    }
+
+    public boolean isRevoked(UUID memberId) {
+        return Boolean.TRUE.equals(redisTemplate.hasKey(KEY_PREFIX + memberId));
+    }
+}
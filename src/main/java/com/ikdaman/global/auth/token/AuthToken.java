@@ -1,14 +1,11 @@
 package com.ikdaman.global.auth.token;
 
-import com.ikdaman.global.auth.enumerate.RoleType;
-import com.ikdaman.global.exception.BaseException;
+import com.ikdaman.global.exception.ExpectedAuthException;
 import io.jsonwebtoken.*;
 import lombok.Getter;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 import java.security.Key;
-import java.util.Date;
 
 import static com.ikdaman.global.exception.ErrorCode.EXPIRED_ACCESS_TOKEN;
 import static com.ikdaman.global.exception.ErrorCode.INVALID_ACCESS_TOKEN;
@@ -17,29 +14,27 @@ import static com.ikdaman.global.exception.ErrorCode.INVALID_ACCESS_TOKEN_SIGNAT
 import static com.ikdaman.global.exception.ErrorCode.UNSUPPORTED_ACCESS_TOKEN;
 
 @Slf4j
-@RequiredArgsConstructor
 public class AuthToken {
 
     @Getter
     private final String token;
     private final Key key;
+    private final JwtParser parser;             // 공유 파서 (null이면 key로 생성)
+    private final TokenClaimsCache claimsCache; // 검증된 Claims 캐시 (null이면 사용하지 않음)
 
-    private static final String AUTHORITIES_KEY = "role";
+    private Claims claims; // 한 번 검증한 Claims는 인스턴스 안에서 재사용
 
-    AuthToken(String id, RoleType roleType, Date expiry, Key key) {
-        String role = roleType.toString(); // USER, ADMIN
-        this.key = key;
-        this.token = createAuthToken(id, role, expiry);
+    public static final String SESSION_ID_KEY = "sid"; // RefreshToken의 기기별 세션 ID
+
+    public AuthToken(String token, Key key) {
+        this(token, key, null, null);
     }
 
-    // AccessToken(appToken) 생성
-    private String createAuthToken(String id, String role, Date expiry) {
-        return Jwts.builder()
-                .setSubject(id)
-                .claim(AUTHORITIES_KEY, role)
-                .signWith(key, SignatureAlgorithm.HS256)
-                .setExpiration(expiry)
-                .compact();
+    AuthToken(String token, Key key, JwtParser parser, TokenClaimsCache claimsCache) {
+        this.token = token;
+        this.key = key;
+        this.parser = parser;
+        this.claimsCache = claimsCache;
     }
 
     // AccessToken(appToken) 유효한지 체크
@@ -47,26 +42,46 @@ public class AuthToken {
         return this.getTokenClaims() != null;
     }
 
+    // RefreshToken의 세션 ID (기기별 세션 도입 전에 발급된 토큰이면 null)
+    public String getSessionId() {
+        return getTokenClaims().get(SESSION_ID_KEY, String.class);
+    }
+
     public Claims getTokenClaims() {
+        if (claims != null) return claims;
+
+        // 캐시 히트 시 서명 검증 생략
+        if (claimsCache != null) {
+            Claims cached = claimsCache.get(token);
+            if (cached != null) return claims = cached;
+        }
+
         try {
-            return Jwts.parserBuilder()
-                    .setSigningKey(key)
-                    .build()
-                    .parseClaimsJws(token)
+            claims = parser().parseClaimsJws(token)
                     .getBody(); // token의 Body가 다음의 exception들로 인해 유효하지 않으면 각각의 로그를 콘솔에 출력
 
         } catch (SecurityException e) {
-            throw new BaseException(INVALID_ACCESS_TOKEN_SIGNATURE);
+            throw ExpectedAuthException.of(INVALID_ACCESS_TOKEN_SIGNATURE);
         } catch (MalformedJwtException e) {
             // 처음 로그인(/auth/kakao) 할 때, AccessToken(여기선 appToken) 없이 접근해도 token validate 체크
             // -> exception 터트리지 않고 catch로 잡아줌
-            throw new BaseException(INVALID_ACCESS_TOKEN_FORMAT);
+            throw ExpectedAuthException.of(INVALID_ACCESS_TOKEN_FORMAT);
         } catch (ExpiredJwtException e) {
-            throw new BaseException(EXPIRED_ACCESS_TOKEN);
+            throw ExpectedAuthException.of(EXPIRED_ACCESS_TOKEN);
         } catch (UnsupportedJwtException e) {
-            throw new BaseException(UNSUPPORTED_ACCESS_TOKEN);
+            throw ExpectedAuthException.of(UNSUPPORTED_ACCESS_TOKEN);
         } catch (IllegalArgumentException e) {
-            throw new BaseException(INVALID_ACCESS_TOKEN);
+            throw ExpectedAuthException.of(INVALID_ACCESS_TOKEN);
         }
+
+        if (claimsCache != null) claims = claimsCache.put(token, claims);
+        return claims;
+    }
+
+    private JwtParser parser() {
+        if (parser != null) return parser;
+        return Jwts.parserBuilder()
+                .setSigningKey(key)
+                .build();
     }
 }
\ No newline at end of file
@@ -4,6 +4,8 @@ import com.ikdaman.global.auth.enumerate.RoleType;
 import com.ikdaman.global.auth.service.MemberDetailsService;
 import com.ikdaman.global.exception.BaseException;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -15,9 +17,10 @@ import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 
 import java.security.Key;
+import java.security.SecureRandom;
 import java.util.Arrays;
+import java.util.Base64;
 import java.util.Collection;
-import java.util.Date;
 import java.util.stream.Collectors;
 
 import static com.ikdaman.global.exception.ErrorCode.FAILED_GENERATE_APP_TOKEN;
@@ -25,28 +28,47 @@ import static com.ikdaman.global.exception.ErrorCode.FAILED_GENERATE_APP_TOKEN;
 @Slf4j
 @Component
 public class AuthTokenProvider {
-    @Value("${auth.access-token-validity}")
-    private String accessExpiry; // AccessToken 만료일
+    private final long accessExpiry;  // AccessToken 유효 기간 (ms)
+    private final long refreshExpiry; // RefreshToken 유효 기간 (ms)
 
-    @Value("${auth.refresh-token-validity}")
-    private String refreshExpiry; // RefreshToken 만료일
+    @Value("${auth.stateless-principal:true}")
+    private boolean statelessPrincipal; // true: 토큰 정보로 인증 객체 생성, false: 요청마다 회원 조회
 
     private final Key key;
+    private final JwtParser jwtParser; // 서명 검증용 파서 (요청마다 생성하지 않고 공유)
+    private final JwtSigner jwtSigner; // 토큰 발급용 서명기
     private static final String AUTHORITIES_KEY = "role"; // getAuthentication에서 사용자 권한 체크 위해
+    private static final SecureRandom SESSION_ID_RANDOM = new SecureRandom();
 
     private final MemberDetailsService memberDetailsService;
+    private final TokenClaimsCache tokenClaimsCache;
 
     //생성자
-    public AuthTokenProvider(@Value("${auth.tokenSecret}") String secretKey, MemberDetailsService memberDetailsService) {
+    public AuthTokenProvider(@Value("${auth.tokenSecret}") String secretKey,
+                             @Value("${auth.access-token-validity}") long accessExpiry,
+                             @Value("${auth.refresh-token-validity}") long refreshExpiry,
+                             MemberDetailsService memberDetailsService,
+                             TokenClaimsCache tokenClaimsCache) {
         this.key = Keys.hmacShaKeyFor(secretKey.getBytes());
+        this.jwtParser = Jwts.parserBuilder()
+                .setSigningKey(key)
+                .build();
+        this.jwtSigner = new JwtSigner(key);
+        this.accessExpiry = accessExpiry;
+        this.refreshExpiry = refreshExpiry;
         this.memberDetailsService = memberDetailsService;
+        this.tokenClaimsCache = tokenClaimsCache;
     }
 
     // 추후 roleType 추가 시 interface 역할 하기 위해 생성
     // role: USER, ADMIN ..
-    public AuthToken createToken(String id, RoleType roleType, String expiry) {
-        Date expiryDate = getExpiryDate(expiry);
-        return new AuthToken(id, roleType, expiryDate, key);
+    public AuthToken createToken(String id, RoleType roleType, long expiry) {
+        return createToken(id, roleType, null, expiry);
+    }
+
+    private AuthToken createToken(String id, RoleType roleType, String sessionId, long expiry) {
+        long expiresAt = (System.currentTimeMillis() + expiry) / 1000;
+        return new AuthToken(jwtSigner.sign(id, roleType.toString(), sessionId, expiresAt), key, jwtParser, tokenClaimsCache);
     }
 
     // USER에 대한 AccessToken(여기선 appToken) 생성
@@ -54,19 +76,21 @@ public class AuthTokenProvider {
         return createToken(id, RoleType.USER, accessExpiry);
     }
 
-    // RefreshToken 생성
-    public AuthToken createRefreshToken(String id) {
-        return createToken(id, RoleType.USER, refreshExpiry);
+    // RefreshToken 생성 (sessionId: 로그인한 기기별 세션 ID)
+    public AuthToken createRefreshToken(String id, String sessionId) {
+        return createToken(id, RoleType.USER, sessionId, refreshExpiry);
     }
 
-    // String to AuthToken
-    public AuthToken convertAuthToken(String token) {
-        return new AuthToken(token, key);
+    // 기기별 세션 ID 생성 (96bit 난수, Base64URL 16자)
+    public String createSessionId() {
+        byte[] bytes = new byte[12];
+        SESSION_ID_RANDOM.nextBytes(bytes);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
     }
 
-    // String to Date
-    public static Date getExpiryDate(String expiry) {
-        return new Date(System.currentTimeMillis() + Long.parseLong(expiry));
+    // String to AuthToken
+    public AuthToken convertAuthToken(String token) {
+        return new AuthToken(token, key, jwtParser, tokenClaimsCache);
     }
 
     public Authentication getAuthentication(AuthToken authToken) {
@@ -80,7 +104,9 @@ public class AuthTokenProvider {
                             .map(SimpleGrantedAuthority::new)
                             .collect(Collectors.toList());
 
-            UserDetails member = memberDetailsService.loadUserByUsername(claims.getSubject());
+            UserDetails member = statelessPrincipal
+                    ? memberDetailsService.loadUserByMemberId(claims.getSubject())
+                    : memberDetailsService.loadUserByUsername(claims.getSubject());
             return new UsernamePasswordAuthenticationToken(member, authToken, authorities);
         } else {
             throw new BaseException(FAILED_GENERATE_APP_TOKEN);
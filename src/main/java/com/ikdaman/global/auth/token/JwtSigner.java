@@ -0,0 +1,95 @@
+package com.ikdaman.global.auth.token;
+
+import javax.crypto.Mac;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.Key;
+import java.util.Base64;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * HS256 JWT 서명 (로그인/재발급마다 호출되는 토큰 발급 전용)
+ * - 헤더는 미리 인코딩해 두고, Claims JSON은 고정된 형식에 값만 채워 생성
+ * - HMAC Mac 인스턴스는 풀에서 꺼내 쓰고 반납해 재사용
+ *   (ThreadLocal은 요청마다 새로 생기는 가상 스레드에서는 매번 Mac을 새로 만들게 되므로 사용하지 않음)
+ * - 결과는 Jwts.builder()로 같은 Claims를 같은 순서로 넣은 토큰과 동일
+ */
+final class JwtSigner {
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final byte[] HEADER = ENCODER.encode("{\"alg\":\"HS256\"}".getBytes(StandardCharsets.UTF_8));
+    private static final String ALGORITHM = "HmacSHA256";
+
+    private final Key key;
+    private final Queue<Mac> macs = new ConcurrentLinkedQueue<>(); // 최대 동시 서명 수만큼만 늘어남
+
+    JwtSigner(Key key) {
+        this.key = key;
+        macs.offer(newMac(key)); // 잘못된 키는 기동 시 확인
+    }
+
+    /**
+     * 서명된 토큰 생성
+     * @param sessionId null이면 sid claim 생략
+     * @param expiresAtSeconds 만료 시각 (epoch seconds)
+     */
+    String sign(String subject, String role, String sessionId, long expiresAtSeconds) {
+        StringBuilder claims = new StringBuilder(128).append("{\"sub\":");
+        appendString(claims, subject);
+        claims.append(",\"role\":");
+        appendString(claims, role);
+        if (sessionId != null) {
+            claims.append(",\"sid\":");
+            appendString(claims, sessionId);
+        }
+        claims.append(",\"exp\":").append(expiresAtSeconds).append('}');
+
+        byte[] payload = ENCODER.encode(claims.toString().getBytes(StandardCharsets.UTF_8));
+        byte[] token = new byte[HEADER.length + 1 + payload.length + 1 + 43]; // HS256 서명 32byte → Base64URL 43자
+        System.arraycopy(HEADER, 0, token, 0, HEADER.length);
+        token[HEADER.length] = '.';
+        System.arraycopy(payload, 0, token, HEADER.length + 1, payload.length);
+        int signingInputLength = HEADER.length + 1 + payload.length;
+
+        Mac mac = macs.poll();
+        if (mac == null) mac = newMac(key);
+        byte[] signature;
+        try {
+            mac.update(token, 0, signingInputLength);
+            signature = ENCODER.encode(mac.doFinal()); // doFinal 후 초기 상태로 돌아감
+        } finally {
+            macs.offer(mac);
+        }
+        token[signingInputLength] = '.';
+        System.arraycopy(signature, 0, token, signingInputLength + 1, signature.length);
+
+        return new String(token, StandardCharsets.ISO_8859_1);
+    }
+
+    // JSON 문자열 값 (따옴표, 역슬래시, 제어 문자만 이스케이프)
+    private static void appendString(StringBuilder json, String value) {
+        json.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"' || c == '\\') {
+                json.append('\\').append(c);
+            } else if (c < 0x20) {
+                json.append(String.format("\\u%04x", (int) c));
+            } else {
+                json.append(c);
+            }
+        }
+        json.append('"');
+    }
+
+    private static Mac newMac(Key key) {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(key);
+            return mac;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("JWT 서명 키 초기화 실패", e);
+        }
+    }
+}
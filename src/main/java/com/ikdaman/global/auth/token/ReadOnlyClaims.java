@@ -0,0 +1,125 @@
+package com.ikdaman.global.auth.token;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+
+import java.util.AbstractMap;
+import java.util.Collections;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Set;
+
+/**
+ * 수정할 수 없는 Claims (TokenClaimsCache에 저장해 여러 요청이 함께 사용)
+ * - 생성 시 전달받은 Claims를 복사하므로 원본을 수정해도 영향 없음
+ * - put/remove/set* 등 값을 바꾸는 메서드는 UnsupportedOperationException
+ */
+final class ReadOnlyClaims extends AbstractMap<String, Object> implements Claims {
+
+    private final Claims claims; // 복사본 (외부에 노출하지 않음)
+    private final Set<Entry<String, Object>> entries;
+
+    ReadOnlyClaims(Claims source) {
+        this.claims = Jwts.claims(new LinkedHashMap<>(source));
+        this.entries = Collections.unmodifiableMap(claims).entrySet();
+    }
+
+    @Override
+    public Set<Entry<String, Object>> entrySet() {
+        return entries;
+    }
+
+    @Override
+    public Object get(Object key) {
+        return claims.get(key);
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return claims.containsKey(key);
+    }
+
+    @Override
+    public <T> T get(String claimName, Class<T> requiredType) {
+        return claims.get(claimName, requiredType);
+    }
+
+    @Override
+    public String getIssuer() {
+        return claims.getIssuer();
+    }
+
+    @Override
+    public String getSubject() {
+        return claims.getSubject();
+    }
+
+    @Override
+    public String getAudience() {
+        return claims.getAudience();
+    }
+
+    @Override
+    public Date getExpiration() {
+        return copy(claims.getExpiration());
+    }
+
+    @Override
+    public Date getNotBefore() {
+        return copy(claims.getNotBefore());
+    }
+
+    @Override
+    public Date getIssuedAt() {
+        return copy(claims.getIssuedAt());
+    }
+
+    @Override
+    public String getId() {
+        return claims.getId();
+    }
+
+    @Override
+    public Claims setIssuer(String iss) {
+        throw readOnly();
+    }
+
+    @Override
+    public Claims setSubject(String sub) {
+        throw readOnly();
+    }
+
+    @Override
+    public Claims setAudience(String aud) {
+        throw readOnly();
+    }
+
+    @Override
+    public Claims setExpiration(Date exp) {
+        throw readOnly();
+    }
+
+    @Override
+    public Claims setNotBefore(Date nbf) {
+        throw readOnly();
+    }
+
+    @Override
+    public Claims setIssuedAt(Date iat) {
+        throw readOnly();
+    }
+
+    @Override
+    public Claims setId(String jti) {
+        throw readOnly();
+    }
+
+    // Date는 수정 가능하므로 조회할 때마다 복사
+    private static Date copy(Date date) {
+        return (date == null) ? null : new Date(date.getTime());
+    }
+
+    private static UnsupportedOperationException readOnly() {
+        return new UnsupportedOperationException("캐시된 Claims는 수정할 수 없습니다.");
+    }
+}
@@ -0,0 +1,76 @@
+package com.ikdaman.global.auth.token;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.ikdaman.global.auth.util.TokenDigestUtil;
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 서명 검증이 끝난 토큰의 Claims 캐시
+ * - 토큰 원문이 아닌 SHA-256 digest를 키로 사용
+ * - 항목마다 토큰의 exp 시점에 만료, 최대 크기에 도달하면 Caffeine 정책으로 제거
+ * - 여러 요청이 같은 Claims를 사용하므로 수정할 수 없는 복사본(ReadOnlyClaims)을 저장
+ */
+@Component
+public class TokenClaimsCache {
+
+    // 토큰의 exp까지 남은 시간 동안 보관 (조회/갱신으로 연장하지 않음)
+    private static final Expiry<String, Claims> UNTIL_TOKEN_EXPIRATION = new Expiry<>() {
+        @Override
+        public long expireAfterCreate(String key, Claims claims, long currentTime) {
+            long remaining = claims.getExpiration().getTime() - System.currentTimeMillis();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(0, remaining));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, Claims claims, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, claims, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, Claims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    };
+
+    private final Cache<String, Claims> cache;
+
+    public TokenClaimsCache(@Value("${auth.token-cache.max-size:10000}") long maxSize,
+                            MeterRegistry meterRegistry) {
+        this.cache = CaffeineCacheMetrics.monitor(meterRegistry, Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(UNTIL_TOKEN_EXPIRATION)
+                .recordStats()
+                .<String, Claims>build(), "auth.token.claims");
+    }
+
+    /**
+     * 캐시된 Claims 조회
+     * @param token 토큰 원문
+     * @return 수정할 수 없는 Claims, 없거나 만료되었으면 null
+     */
+    public Claims get(String token) {
+        return cache.getIfPresent(TokenDigestUtil.sha256(token));
+    }
+
+    /**
+     * 검증된 Claims 저장 (exp가 없거나 이미 지난 토큰은 저장하지 않음)
+     * @return 저장한 수정할 수 없는 Claims (저장하지 않았으면 전달받은 Claims)
+     */
+    public Claims put(String token, Claims claims) {
+        Date expiration = claims.getExpiration();
+        if (expiration == null || expiration.getTime() <= System.currentTimeMillis()) return claims;
+
+        Claims readOnly = new ReadOnlyClaims(claims);
+        cache.put(TokenDigestUtil.sha256(token), readOnly);
+        return readOnly;
+    }
+}
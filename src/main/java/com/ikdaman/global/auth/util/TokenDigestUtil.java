@@ -0,0 +1,38 @@
+package com.ikdaman.global.auth.util;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+
+/**
+ * 토큰 원문 대신 보관/비교에 사용하는 digest 생성 유틸
+ */
+public class TokenDigestUtil {
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    public static final int FINGERPRINT_LENGTH = 22; // SHA-256 digest 앞 132bit
+
+    private TokenDigestUtil() { }
+
+    /**
+     * SHA-256 digest를 Base64URL(패딩 없음) 문자열로 반환
+     */
+    public static String sha256(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return ENCODER.encodeToString(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            // SHA-256은 모든 JVM에서 지원되는 알고리즘
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 저장용 짧은 fingerprint (sha256 결과의 앞 22자)
+     * - 서명 검증을 통과한 토큰끼리 구분하는 용도라 132bit로 충분
+     */
+    public static String fingerprint(String token) {
+        return sha256(token).substring(0, FINGERPRINT_LENGTH);
+    }
+}
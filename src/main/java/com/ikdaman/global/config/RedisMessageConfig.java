@@ -0,0 +1,24 @@
+package com.ikdaman.global.config;
+
+import com.ikdaman.domain.member.service.MemberCache;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+/**
+ * Redis pub/sub 구독 설정
+ */
+@Configuration
+public class RedisMessageConfig {
+
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory connectionFactory,
+                                                                       MemberCache memberCache) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(memberCache, new ChannelTopic(MemberCache.EVICT_CHANNEL));
+        return container;
+    }
+}
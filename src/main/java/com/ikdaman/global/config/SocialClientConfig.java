@@ -0,0 +1,37 @@
+package com.ikdaman.global.config;
+
+import com.ikdaman.global.auth.client.SocialClientProperties;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * 소셜 토큰 검증 클라이언트 설정
+ */
+@Configuration
+@EnableConfigurationProperties(SocialClientProperties.class)
+public class SocialClientConfig {
+
+    /**
+     * 소셜 로그인 중 블로킹 작업(idToken 서명 검증, 회원 조회/저장, Redis)을 수행할 Scheduler
+     * - 기본: boundedElastic
+     * - spring.threads.virtual.enabled=true (Java 21+): 작업마다 가상 스레드 (applicationTaskExecutor)
+     */
+    @Bean
+    @ConditionalOnThreading(Threading.PLATFORM)
+    public Scheduler blockingScheduler() {
+        return Schedulers.boundedElastic();
+    }
+
+    @Bean("blockingScheduler")
+    @ConditionalOnThreading(Threading.VIRTUAL)
+    public Scheduler virtualThreadBlockingScheduler(@Qualifier("applicationTaskExecutor") AsyncTaskExecutor taskExecutor) {
+        return Schedulers.fromExecutor(taskExecutor);
+    }
+}
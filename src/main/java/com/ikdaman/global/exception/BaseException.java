@@ -13,4 +13,10 @@ public class BaseException extends RuntimeException {
         super(errorCode.getMessage());
         this.errorCode = errorCode;
     }
+
+    // 스택 트레이스/suppressed 예외를 기록하지 않는 예외용
+    protected BaseException(ErrorCode errorCode, boolean writableStackTrace) {
+        super(errorCode.getMessage(), null, false, writableStackTrace);
+        this.errorCode = errorCode;
+    }
 }
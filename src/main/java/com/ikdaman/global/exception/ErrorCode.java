@@ -15,6 +15,7 @@ public enum ErrorCode {
      */
     // common(00)
     BAD_REQUEST_BY_VALIDATION(HttpStatus.BAD_REQUEST.value(), 4000001, "유효하지 않은 값입니다."),
+    INVALID_CURSOR(HttpStatus.BAD_REQUEST.value(), 4000002, "유효하지 않은 커서입니다."),
 
     /**
      * 401 Unauthorized
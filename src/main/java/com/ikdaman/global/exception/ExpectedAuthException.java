@@ -0,0 +1,44 @@
+package com.ikdaman.global.exception;
+
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+
+import static com.ikdaman.global.exception.ErrorCode.*;
+
+/**
+ * 예상된 인증 실패 (만료/위조된 토큰, 재사용된 RefreshToken 등)
+ * - 클라이언트 요청 때문에 반복적으로 발생하므로 스택 트레이스를 만들지 않음
+ * - 상태가 없으므로 ErrorCode별로 하나의 인스턴스를 공유
+ * - 인증 관련 4xx ErrorCode만 허용 (서버 오류의 스택 트레이스가 사라지지 않도록)
+ */
+public final class ExpectedAuthException extends BaseException {
+
+    private static final Set<ErrorCode> AUTH_ERROR_CODES = EnumSet.of(
+            INVALID_SOCIAL_ACCESS_TOKEN, INVALID_ACCESS_TOKEN, INVALID_REFRESH_TOKEN,
+            NOT_MATCH_TOKEN_PROVIDER, INVALID_ACCESS_TOKEN_SIGNATURE, INVALID_ACCESS_TOKEN_FORMAT,
+            EXPIRED_ACCESS_TOKEN, UNSUPPORTED_ACCESS_TOKEN);
+    private static final Map<ErrorCode, ExpectedAuthException> INSTANCES = new EnumMap<>(ErrorCode.class);
+
+    static {
+        for (ErrorCode errorCode : AUTH_ERROR_CODES) {
+            INSTANCES.put(errorCode, new ExpectedAuthException(errorCode));
+        }
+    }
+
+    private ExpectedAuthException(ErrorCode errorCode) {
+        super(errorCode, false);
+    }
+
+    /**
+     * @throws IllegalArgumentException 인증 실패 ErrorCode가 아닌 경우 (new BaseException(errorCode) 사용)
+     */
+    public static ExpectedAuthException of(ErrorCode errorCode) {
+        ExpectedAuthException instance = INSTANCES.get(errorCode);
+        if (instance == null) {
+            throw new IllegalArgumentException("인증 실패 ErrorCode가 아닙니다: " + errorCode);
+        }
+        return instance;
+    }
+}
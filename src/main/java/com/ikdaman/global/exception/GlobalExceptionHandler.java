@@ -1,8 +1,18 @@
 package com.ikdaman.global.exception;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.validation.ConstraintViolationException;
 import lombok.extern.log4j.Log4j2;
 import java.sql.SQLException;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -19,21 +29,59 @@ import static com.ikdaman.global.exception.ErrorCode.*;
 @Log4j2
 public class GlobalExceptionHandler {
 
+    private static final MediaType JSON_UTF8 = MediaType.valueOf("application/json; charset=UTF-8");
+
+    private final Map<ErrorCode, byte[]> errorBodies = new EnumMap<>(ErrorCode.class); // ErrorCode별 직렬화된 ErrorRes
+    private final Map<ErrorCode, Counter> errorCounters = new EnumMap<>(ErrorCode.class);
+    private final Map<ErrorCode, LogLimiter> logLimiters = new EnumMap<>(ErrorCode.class);
+
+    public GlobalExceptionHandler(ObjectMapper objectMapper,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${error.log.min-interval-ms:10000}") long logIntervalMs) throws JsonProcessingException {
+        for (ErrorCode errorCode : ErrorCode.values()) {
+            errorBodies.put(errorCode, objectMapper.writeValueAsBytes(ErrorRes.builder()
+                    .status(errorCode.getStatus())
+                    .code(String.valueOf(errorCode.getCode()))
+                    .message(errorCode.getMessage())
+                    .build()));
+            errorCounters.put(errorCode, Counter.builder("http.errors")
+                    .tag("code", errorCode.name())
+                    .tag("status", String.valueOf(errorCode.getStatus()))
+                    .register(meterRegistry));
+            if (errorCode.getStatus() < HttpStatus.INTERNAL_SERVER_ERROR.value()) {
+                logLimiters.put(errorCode, new LogLimiter(logIntervalMs));
+            }
+        }
+    }
+
     /**
      * 커스텀 예외(BaseException) 처리 핸들러
+     * - ErrorCode별 카운터(http.errors)를 올림
+     * - 4xx는 스택 트레이스 없이 ErrorCode별로 일정 간격에 한 번만 기록
+     * - 5xx는 매번 스택 트레이스와 함께 기록 (같은 ErrorCode라도 원인이 다를 수 있음)
      *
      * @param ex BaseException
-     * @return 에러 응답(ResponseEntity<ErrorDto>)
+     * @return 미리 직렬화된 에러 응답(ErrorRes JSON)
      */
     @ExceptionHandler(BaseException.class)
-    public ResponseEntity<ErrorRes> handleCustomException(BaseException ex) {
-        log.error(ex.getMessage(), ex);
-        ErrorRes errorRes = ErrorRes.builder()
-                .status(ex.getErrorCode().getStatus())
-                .code(String.valueOf(ex.getErrorCode().getCode()))
-                .message(ex.getErrorCode().getMessage())
-                .build();
-        return new ResponseEntity<>(errorRes, HttpStatus.valueOf(ex.getErrorCode().getStatus()));
+    public ResponseEntity<byte[]> handleCustomException(BaseException ex) {
+        ErrorCode errorCode = ex.getErrorCode();
+        errorCounters.get(errorCode).increment();
+
+        LogLimiter logLimiter = logLimiters.get(errorCode);
+        if (logLimiter == null) {
+            log.error("[{}] {}", errorCode, ex.getMessage(), ex);
+        } else {
+            long skipped = logLimiter.tryAcquire(System.currentTimeMillis());
+            if (skipped >= 0) {
+                log.warn("[{}] {} (이전 로그 이후 {}건 생략)", errorCode, ex.getMessage(), skipped);
+            }
+        }
+
+        return ResponseEntity
+                .status(errorCode.getStatus())
+                .contentType(JSON_UTF8)
+                .body(errorBodies.get(errorCode));
     }
 
     /**
@@ -126,4 +174,27 @@ public class GlobalExceptionHandler {
                 .build();
         return new ResponseEntity<>(errorRes, HttpStatus.INTERNAL_SERVER_ERROR);
     }
+
+    // 일정 간격에 한 번만 로그를 남기고 그 사이 건수는 생략 건수로 집계
+    private static final class LogLimiter {
+        private final long intervalMs;
+        private final AtomicLong nextLogAt = new AtomicLong();
+        private final LongAdder skipped = new LongAdder();
+
+        LogLimiter(long intervalMs) {
+            this.intervalMs = intervalMs;
+        }
+
+        /**
+         * @return 로그를 남길 차례면 직전 로그 이후 생략한 건수, 아니면 -1
+         */
+        long tryAcquire(long now) {
+            long next = nextLogAt.get();
+            if (now >= next && nextLogAt.compareAndSet(next, now + intervalMs)) {
+                return skipped.sumThenReset();
+            }
+            skipped.increment();
+            return -1;
+        }
+    }
 }
@@ -0,0 +1,51 @@
+package com.ikdaman.global.util;
+
+/**
+ * 한글 검색 유틸 (초성 추출)
+ */
+public class HangulUtils {
+
+    private static final char SYLLABLE_BEGIN = '가';
+    private static final char SYLLABLE_END = '힣';
+    private static final int SYLLABLES_PER_CHOSEONG = 21 * 28; // 중성 수 * 종성 수
+
+    private static final char[] CHOSEONG = {
+            'ㄱ', 'ㄲ', 'ㄴ', 'ㄷ', 'ㄸ', 'ㄹ', 'ㅁ', 'ㅂ', 'ㅃ', 'ㅅ',
+            'ㅆ', 'ㅇ', 'ㅈ', 'ㅉ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ'
+    };
+
+    private HangulUtils() { }
+
+    /**
+     * 한글 음절을 초성으로 변환 (그 외 문자는 그대로 유지)
+     * Ex. "익다만 123" -> "ㅇㄷㅁ 123"
+     */
+    public static String toChoseong(String text) {
+        if (text == null) return null;
+
+        StringBuilder sb = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c >= SYLLABLE_BEGIN && c <= SYLLABLE_END) {
+                sb.append(CHOSEONG[(c - SYLLABLE_BEGIN) / SYLLABLES_PER_CHOSEONG]);
+            } else {
+                sb.append(c);
+            }
+        }
+        return sb.toString();
+    }
+
+    /**
+     * 공백을 제외한 모든 문자가 초성(ㄱ~ㅎ)인지 확인
+     */
+    public static boolean isChoseongOnly(String text) {
+        if (text == null || text.isBlank()) return false;
+
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (Character.isWhitespace(c)) continue;
+            if (c < 'ㄱ' || c > 'ㅎ') return false;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,43 @@
+package com.ikdaman.global.util;
+
+import com.ikdaman.global.exception.BaseException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+import static com.ikdaman.global.exception.ErrorCode.INVALID_CURSOR;
+
+/**
+ * 커서 페이지네이션용 커서 (createdAt, id)
+ * - 클라이언트에는 Base64URL로 인코딩한 불투명 문자열로 전달
+ */
+public record PageCursor(LocalDateTime createdAt, long id) {
+
+    private static final String DELIMITER = "|";
+
+    public String encode() {
+        String raw = createdAt + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @param cursor 인코딩된 커서 (null 또는 빈 값이면 첫 페이지)
+     * @return 디코딩된 커서, 첫 페이지면 null
+     */
+    public static PageCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) return null;
+
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int index = raw.lastIndexOf(DELIMITER);
+            return new PageCursor(
+                    LocalDateTime.parse(raw.substring(0, index)),
+                    Long.parseLong(raw.substring(index + 1))
+            );
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new BaseException(INVALID_CURSOR);
+        }
+    }
+}
@@ -1,22 +1,21 @@
 package com.ikdaman.global.util;
 
-import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
-import java.text.MessageFormat;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
 
 // 닉네임 중복검사 -> 가입이 이루어지는 Service 단에서 검사하는 편이 의존성을 줄일 수 있음 (추가적인 Repository를 선언할 필요 없음)
+// 생성 가능한 닉네임(형용사, 명사, 숫자 조합)마다 0 ~ capacity()-1 번호를 부여 (중복 없는 할당은 NicknameAllocator에서 처리)
 @Component
-@RequiredArgsConstructor
 public class RandomNickname {
 
     private static final int MAX_NICKNAME_NUMBER = 999;
     private static final int MIN_NICKNAME_NUMBER = 1;
 
-    private static int ADJ_INDEX = 0;
-    private static int N_INDEX = 0;
-
     // 형용사 배열
-    private final String[] ADJECTIVES = {
+    private static final String[] ADJECTIVES = {
             "책을 좋아하는", "책에 진심인", "책방을 좋아하는", "책 냄새 좋아하는", "독서하는",
             "책장 넘기는", "깊은 독서하는", "따뜻한", "느긋한", "강한",
             "말랑한", "단단한", "조용한", "여유있는", "깊은",
@@ -25,8 +24,8 @@ public class RandomNickname {
             "용기의", "꿈꾸는", "건강한", "행복한", "고마운"
     };
 
-    // 명사 배열
-    private final String[] NOUNS = {
+    // 명사 배열 (공백 없음)
+    private static final String[] NOUNS = {
             "독서인", "독자", "책친구", "독서가", "독서광",
             "학습가", "독서왕", "책러버", "북러버", "독서부자",
             "리더", "책선생님", "책대장", "사색가", "친구",
@@ -35,22 +34,71 @@ public class RandomNickname {
             "옥수수", "토마토", "양상추", "도토리"
     };
 
+    private static final int NUMBER_COUNT = MAX_NICKNAME_NUMBER - MIN_NICKNAME_NUMBER + 1;
+    private static final int CAPACITY = ADJECTIVES.length * NOUNS.length * NUMBER_COUNT;
+
+    private static final Map<String, Integer> ADJECTIVE_INDEX = indexOf(ADJECTIVES);
+    private static final Map<String, Integer> NOUN_INDEX = indexOf(NOUNS);
+
     /**
-     * 랜덤 닉네임을 생성하는 메소드
+     * 랜덤 닉네임을 생성하는 메소드 (중복 여부는 확인하지 않음)
      */
     public String generate() {
-        // 랜덤 형용사
-        String adjective = ADJECTIVES[ADJ_INDEX];
-        // 랜덤 명사
-        String noun = NOUNS[N_INDEX];
-        // 랜덤 숫자
-        int randomInt = (int) (Math.random() * (MAX_NICKNAME_NUMBER - MIN_NICKNAME_NUMBER) + MIN_NICKNAME_NUMBER);
-
-        ADJ_INDEX = (ADJ_INDEX + 1 ) % ADJECTIVES.length;
-        N_INDEX = (N_INDEX + 1 ) % NOUNS.length;
-
-        // 생성한 닉네임 반환 (Ex. 책을 좋아하는 독서인 27)
-        return MessageFormat.format("{0} {1} {2}", adjective, noun, randomInt);
+        return nicknameAt(ThreadLocalRandom.current().nextInt(CAPACITY));
     }
-}
 
+    /**
+     * 생성 가능한 닉네임 수
+     */
+    public int capacity() {
+        return CAPACITY;
+    }
+
+    /**
+     * 번호에 해당하는 닉네임 (Ex. 책을 좋아하는 독서인 27)
+     */
+    public String nicknameAt(int index) {
+        if (index < 0 || index >= CAPACITY) throw new IndexOutOfBoundsException(index);
+
+        int number = index / (ADJECTIVES.length * NOUNS.length) + MIN_NICKNAME_NUMBER;
+        int rest = index % (ADJECTIVES.length * NOUNS.length);
+        return ADJECTIVES[rest / NOUNS.length] + " " + NOUNS[rest % NOUNS.length] + " " + number;
+    }
+
+    /**
+     * 닉네임의 번호
+     * @return 생성 가능한 형식이 아니면(사용자가 직접 정한 닉네임 등) -1
+     */
+    public int indexOf(String nickname) {
+        if (nickname == null) return -1;
+        int numberStart = nickname.lastIndexOf(' ');
+        if (numberStart <= 0) return -1;
+        int nounStart = nickname.lastIndexOf(' ', numberStart - 1);
+        if (nounStart <= 0) return -1;
+
+        Integer adjective = ADJECTIVE_INDEX.get(nickname.substring(0, nounStart));
+        Integer noun = NOUN_INDEX.get(nickname.substring(nounStart + 1, numberStart));
+        int number = parseNumber(nickname.substring(numberStart + 1));
+        if (adjective == null || noun == null || number < 0) return -1;
+
+        return (number - MIN_NICKNAME_NUMBER) * ADJECTIVES.length * NOUNS.length + adjective * NOUNS.length + noun;
+    }
+
+    // "007"처럼 생성 결과와 다른 표기는 제외
+    private static int parseNumber(String value) {
+        if (value.isEmpty() || value.length() > 3 || value.charAt(0) == '0') return -1;
+        int number = 0;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c < '0' || c > '9') return -1;
+            number = number * 10 + (c - '0');
+        }
+        return (number >= MIN_NICKNAME_NUMBER && number <= MAX_NICKNAME_NUMBER) ? number : -1;
+    }
+
+    private static Map<String, Integer> indexOf(String[] words) {
+        Map<String, Integer> index = new HashMap<>();
+        for (int i = 0; i < words.length; i++) index.put(words[i], i);
+        return Map.copyOf(index);
+    }
+}
@@ -1,31 +1,181 @@
 package com.ikdaman.global.util;
 
-import lombok.RequiredArgsConstructor;
+import com.ikdaman.global.auth.util.TokenDigestUtil;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.Cursor;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
-import java.util.Optional;
-import java.util.concurrent.TimeUnit;
+import java.util.List;
 
+/**
+ * RefreshToken 세션 저장소
+ * - 회원별 Hash 하나에 로그인한 기기(세션)마다 필드 하나를 사용
+ *   (field: 세션 ID, value: "토큰 fingerprint:마지막 사용 시각[:직전 토큰 fingerprint]")
+ * - 토큰 원문 대신 SHA-256 fingerprint(22자)만 저장
+ * - 기기 수가 최대치를 넘으면 가장 오래 사용하지 않은 세션부터 삭제
+ * - 교체 직후 잠시(reuse-grace-ms) 동안은 직전 토큰으로 다시 요청해도 재사용으로 보지 않음
+ *   (응답을 받지 못한 클라이언트의 중복 요청으로 정상 기기가 로그아웃되는 것을 방지)
+ * - 기기별 세션 도입 전 형식 키(FMRT: )는 재발급 시 확인 후 삭제하거나 migrateLegacyKeys()로 fingerprint 키로 옮김
+ */
 @Service
-@RequiredArgsConstructor
 public class RedisService {
+
+    private static final String SESSION_PREFIX = "rs:";        // 기기별 세션 Hash
+    private static final String SINGLE_TOKEN_PREFIX = "rl:";   // 기기별 세션 도입 전 발급된 토큰의 fingerprint
+    // 이전 형식 키
+    private static final String LEGACY_REFRESH_TOKEN_PREFIX = "FMRT: ";       // 토큰 원문 저장
+    private static final String LEGACY_USED_REFRESH_TOKEN_PREFIX = "FMRT_USED: ";
+    private static final int MIGRATION_SCAN_COUNT = 1000;
+
+    // 세션 저장 후 최대치를 넘은 만큼 오래된 세션 삭제, 반환값: 삭제한 세션 수
+    private static final RedisScript<Long> START_SESSION = new DefaultRedisScript<>("""
+            redis.call('HSET', KEYS[1], ARGV[1], ARGV[2] .. ':' .. ARGV[3])
+            local evicted = 0
+            while redis.call('HLEN', KEYS[1]) > tonumber(ARGV[5]) do
+              local fields = redis.call('HGETALL', KEYS[1])
+              local oldest, oldestAt
+              for i = 1, #fields, 2 do
+                local at = tonumber(string.match(fields[i + 1], '^[^:]*:(%d+)')) or 0
+                if fields[i] ~= ARGV[1] and (oldestAt == nil or at < oldestAt) then
+                  oldest, oldestAt = fields[i], at
+                end
+              end
+              redis.call('HDEL', KEYS[1], oldest)
+              evicted = evicted + 1
+            end
+            redis.call('PEXPIRE', KEYS[1], ARGV[4])
+            return evicted
+            """, Long.class);
+
+    // 세션의 토큰 fingerprint가 같으면 교체 (직전 토큰 fingerprint도 함께 보관)
+    // 직전 토큰이고 교체 후 ARGV[6](ms)이 지나지 않았으면 중복 요청으로 보고 세션 유지
+    // 그 외(이미 교체된 토큰)는 재사용으로 보고 세션 삭제
+    // 반환값: 1 교체, 0 세션 없음, -1 재사용, -2 중복 요청
+    private static final RedisScript<Long> ROTATE_SESSION = new DefaultRedisScript<>("""
+            local value = redis.call('HGET', KEYS[1], ARGV[1])
+            if not value then return 0 end
+            local current, at, previous = string.match(value, '^([^:]*):(%d+):?(.*)$')
+            if current == ARGV[2] then
+              redis.call('HSET', KEYS[1], ARGV[1], ARGV[3] .. ':' .. ARGV[4] .. ':' .. ARGV[2])
+              redis.call('PEXPIRE', KEYS[1], ARGV[5])
+              return 1
+            end
+            if previous == ARGV[2] and tonumber(ARGV[4]) - tonumber(at) <= tonumber(ARGV[6]) then
+              return -2
+            end
+            redis.call('HDEL', KEYS[1], ARGV[1])
+            return -1
+            """, Long.class);
+
+    // 세션 도입 전 발급된 토큰과 같으면 키 삭제 (KEYS[1]: fingerprint, KEYS[2]: 원문), 반환값: 1 일치, 0 불일치
+    private static final RedisScript<Long> CONSUME_SINGLE_TOKEN = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) ~= ARGV[2] and redis.call('GET', KEYS[2]) ~= ARGV[1] then return 0 end
+            redis.call('DEL', KEYS[1], KEYS[2], KEYS[3])
+            return 1
+            """, Long.class);
+
+    // 원문 토큰 키를 fingerprint 키로 옮김 (남은 만료 시간 유지), 반환값: 1 이동, 0 변경됨/없음
+    private static final RedisScript<Long> MIGRATE_SINGLE_TOKEN = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) ~= ARGV[1] then return 0 end
+            local ttl = redis.call('PTTL', KEYS[1])
+            if ttl > 0 then
+              redis.call('SET', KEYS[3], ARGV[2], 'PX', ttl)
+            else
+              redis.call('SET', KEYS[3], ARGV[2])
+            end
+            redis.call('DEL', KEYS[1], KEYS[2])
+            return 1
+            """, Long.class);
+
     private final RedisTemplate<String, String> redisTemplate;
+    private final int maxSessionsPerMember;
+    private final long reuseGraceMillis;
+
+    public RedisService(RedisTemplate<String, String> redisTemplate,
+                        @Value("${auth.refresh-session.max-per-member:5}") int maxSessionsPerMember,
+                        @Value("${auth.refresh-session.reuse-grace-ms:5000}") long reuseGraceMillis) {
+        this.redisTemplate = redisTemplate;
+        this.maxSessionsPerMember = maxSessionsPerMember;
+        this.reuseGraceMillis = reuseGraceMillis;
+    }
+
+    /**
+     * 새 기기 세션 저장 (로그인)
+     * @return 최대 기기 수를 넘어 삭제된 세션 수
+     */
+    public long startSession(String memberId, String sessionId, String refreshToken, long timeout) {
+        Long evicted = redisTemplate.execute(START_SESSION, List.of(SESSION_PREFIX + memberId),
+                sessionId, TokenDigestUtil.fingerprint(refreshToken), String.valueOf(System.currentTimeMillis()),
+                String.valueOf(timeout), String.valueOf(maxSessionsPerMember));
+        return (evicted == null) ? 0 : evicted;
+    }
+
+    /**
+     * 세션의 RefreshToken 비교 후 새 토큰으로 교체 (Lua 스크립트로 한 번에 수행)
+     * - 동시에 같은 토큰으로 재발급을 요청해도 하나만 성공
+     * - 교체 직후 직전 토큰으로 다시 요청하면 중복 요청으로 보고 세션 유지
+     * - 그보다 오래된 토큰이 다시 사용되면 탈취로 보고 해당 세션을 폐기 (다른 기기의 세션은 유지)
+     */
+    public RotationResult rotateSession(String memberId, String sessionId, String presentedToken,
+                                        String newToken, long timeout) {
+        Long result = redisTemplate.execute(ROTATE_SESSION, List.of(SESSION_PREFIX + memberId),
+                sessionId, TokenDigestUtil.fingerprint(presentedToken), TokenDigestUtil.fingerprint(newToken),
+                String.valueOf(System.currentTimeMillis()), String.valueOf(timeout), String.valueOf(reuseGraceMillis));
+
+        if (result == null || result == 0) return RotationResult.MISMATCH;
+        if (result == -2) return RotationResult.DUPLICATE;
+        return (result > 0) ? RotationResult.ROTATED : RotationResult.REUSED;
+    }
+
+    /**
+     * 기기별 세션 도입 전에 발급된 RefreshToken 확인 후 기존 키 삭제 (이후 새 세션으로 저장)
+     */
+    public boolean consumeLegacyRefreshToken(String memberId, String presentedToken) {
+        Long result = redisTemplate.execute(CONSUME_SINGLE_TOKEN,
+                List.of(SINGLE_TOKEN_PREFIX + memberId, LEGACY_REFRESH_TOKEN_PREFIX + memberId,
+                        LEGACY_USED_REFRESH_TOKEN_PREFIX + memberId),
+                presentedToken, TokenDigestUtil.fingerprint(presentedToken));
+        return result != null && result == 1;
+    }
 
-    public void setValuesWithTimeout(String key, String value, long timeout) {  // key:value = memberId:RefreshToken
-        String redisKey = "FMRT: " + key;
-        redisTemplate.opsForValue().set(redisKey, value, timeout, TimeUnit.MILLISECONDS);
+    /**
+     * 회원의 모든 기기 세션 삭제 (이전 형식 키 포함, DEL 한 번)
+     */
+    public void deleteSessions(String memberId) {
+        redisTemplate.delete(List.of(SESSION_PREFIX + memberId, SINGLE_TOKEN_PREFIX + memberId,
+                LEGACY_REFRESH_TOKEN_PREFIX + memberId, LEGACY_USED_REFRESH_TOKEN_PREFIX + memberId));
     }
 
-    @Transactional(readOnly = true)
-    public Optional<String> getValues(String key) {
-        String redisKey = "FMRT: " + key;
-        return Optional.ofNullable(redisTemplate.opsForValue().get(redisKey));
+    /**
+     * 토큰 원문 키(FMRT: )를 모두 fingerprint 키(rl:)로 옮김 (SCAN으로 나누어 처리, 여러 번 실행해도 안전)
+     * @return 옮긴 키 수
+     */
+    public long migrateLegacyKeys() {
+        long migrated = 0;
+        try (Cursor<String> keys = redisTemplate.scan(ScanOptions.scanOptions()
+                .match(LEGACY_REFRESH_TOKEN_PREFIX + "*").count(MIGRATION_SCAN_COUNT).build())) {
+            while (keys.hasNext()) {
+                String memberId = keys.next().substring(LEGACY_REFRESH_TOKEN_PREFIX.length());
+                String token = redisTemplate.opsForValue().get(LEGACY_REFRESH_TOKEN_PREFIX + memberId);
+                if (token == null) continue;
+                Long result = redisTemplate.execute(MIGRATE_SINGLE_TOKEN,
+                        List.of(LEGACY_REFRESH_TOKEN_PREFIX + memberId, LEGACY_USED_REFRESH_TOKEN_PREFIX + memberId,
+                                SINGLE_TOKEN_PREFIX + memberId),
+                        token, TokenDigestUtil.fingerprint(token));
+                if (result != null && result == 1) migrated++;
+            }
+        }
+        return migrated;
     }
 
-    public void deleteValues(String key) {
-        String redisKey = "FMRT: " + key;
-        redisTemplate.delete(redisKey);
+    public enum RotationResult {
+        ROTATED,   // 교체 성공
+        MISMATCH,  // 세션 없음 (로그아웃, 만료, 기기 수 초과로 삭제)
+        DUPLICATE, // 교체 직후 직전 토큰으로 다시 요청 (세션 유지, 먼저 받은 응답의 토큰 사용)
+        REUSED     // 이미 교체된 토큰 재사용 (세션 폐기됨)
     }
-}
\ No newline at end of file
+}
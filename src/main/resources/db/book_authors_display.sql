@@ -0,0 +1,4 @@
+-- 책 작가명 비정규화 컬럼 (PostgreSQL)
+-- 컬럼 추가 후 book.authors-display.backfill=true 로 한 번 기동하면 기존 데이터가 채워짐
+
+ALTER TABLE book ADD COLUMN IF NOT EXISTS authors_display VARCHAR(500);
@@ -0,0 +1,13 @@
+-- 기록 ID를 IDENTITY에서 시퀀스(pooled, increment 50)로 전환 (PostgreSQL)
+-- Hibernate가 ID를 50개씩 미리 할당해 INSERT를 JDBC 배치로 묶을 수 있게 함
+-- 애플리케이션 배포 전에 한 번 실행
+
+BEGIN;
+
+ALTER TABLE book_log ALTER COLUMN booklog_id DROP IDENTITY IF EXISTS;
+
+CREATE SEQUENCE IF NOT EXISTS book_log_seq INCREMENT BY 50;
+-- 기존 ID와 겹치지 않도록 현재 최대값 이후부터 할당
+SELECT setval('book_log_seq', (SELECT COALESCE(max(booklog_id), 0) + 50 FROM book_log));
+
+COMMIT;
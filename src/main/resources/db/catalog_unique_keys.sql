@@ -0,0 +1,47 @@
+-- 책 카탈로그 유니크 키 (PostgreSQL)
+-- 나의 책 추가 시 INSERT ... ON CONFLICT가 사용하는 유니크 인덱스
+-- 기존 중복 데이터를 가장 먼저 등록된 행으로 합친 뒤 인덱스 생성 (여러 번 실행해도 안전)
+
+BEGIN;
+
+-- 작가: 같은 이름의 작가를 하나로 합침
+WITH dup AS (
+    SELECT writer_id, min(writer_id) OVER (PARTITION BY writer_name) AS keep_id FROM writer
+)
+UPDATE author a SET writer_id = dup.keep_id
+FROM dup
+WHERE a.writer_id = dup.writer_id AND dup.writer_id <> dup.keep_id;
+
+DELETE FROM writer w USING writer k
+WHERE w.writer_name = k.writer_name AND w.writer_id > k.writer_id;
+
+-- 책: 같은 ISBN의 책을 하나로 합침 (합쳐진 책의 authors_display는 백필로 다시 생성)
+CREATE TEMP TABLE book_dup ON COMMIT DROP AS
+SELECT book_id, keep_id
+FROM (SELECT book_id, min(book_id) OVER (PARTITION BY isbn) AS keep_id FROM book) t
+WHERE book_id <> keep_id;
+
+UPDATE author a SET book_id = d.keep_id FROM book_dup d WHERE a.book_id = d.book_id;
+UPDATE my_book m SET book_id = d.keep_id FROM book_dup d WHERE m.book_id = d.book_id;
+UPDATE book b SET authors_display = NULL WHERE b.book_id IN (SELECT keep_id FROM book_dup);
+DELETE FROM book b USING book_dup d WHERE b.book_id = d.book_id;
+
+-- 책-작가 연결: 중복 연결 제거
+DELETE FROM author a USING author k
+WHERE a.book_id = k.book_id AND a.writer_id = k.writer_id AND a.author_id > k.author_id;
+
+-- 나의 책: 같은 회원의 같은 책은 하나로 합침 (기록은 남기는 쪽으로 이동)
+CREATE TEMP TABLE my_book_dup ON COMMIT DROP AS
+SELECT mybook_id, keep_id
+FROM (SELECT mybook_id, min(mybook_id) OVER (PARTITION BY member_id, book_id) AS keep_id FROM my_book) t
+WHERE mybook_id <> keep_id;
+
+UPDATE book_log bl SET mybook_id = d.keep_id FROM my_book_dup d WHERE bl.mybook_id = d.mybook_id;
+DELETE FROM my_book m USING my_book_dup d WHERE m.mybook_id = d.mybook_id;
+
+CREATE UNIQUE INDEX IF NOT EXISTS uk_writer_name ON writer (writer_name);
+CREATE UNIQUE INDEX IF NOT EXISTS uk_book_isbn ON book (isbn);
+CREATE UNIQUE INDEX IF NOT EXISTS uk_author_book_writer ON author (book_id, writer_id);
+CREATE UNIQUE INDEX IF NOT EXISTS uk_my_book_member_book ON my_book (member_id, book_id);
+
+COMMIT;
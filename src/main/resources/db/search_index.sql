@@ -0,0 +1,33 @@
+-- 책장 검색 인덱스 (PostgreSQL)
+-- 애플리케이션 배포 전에 한 번 실행 (여러 번 실행해도 안전)
+
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+-- 초성 검색용 컬럼 (신규 데이터는 엔티티의 @PrePersist/@PreUpdate에서 채움)
+ALTER TABLE book ADD COLUMN IF NOT EXISTS title_choseong VARCHAR(255);
+ALTER TABLE writer ADD COLUMN IF NOT EXISTS writer_name_choseong VARCHAR(100);
+
+-- 한글 음절 -> 초성 변환 (HangulUtils.toChoseong과 동일한 규칙)
+CREATE OR REPLACE FUNCTION to_choseong(input TEXT) RETURNS TEXT AS $$
+    SELECT string_agg(
+               CASE
+                   WHEN ascii(ch) BETWEEN 44032 AND 55203
+                       THEN substr('ㄱㄲㄴㄷㄸㄹㅁㅂㅃㅅㅆㅇㅈㅉㅊㅋㅌㅍㅎ', (ascii(ch) - 44032) / 588 + 1, 1)
+                   ELSE ch
+               END, '' ORDER BY idx)
+    FROM unnest(string_to_array(input, NULL)) WITH ORDINALITY AS t(ch, idx)
+$$ LANGUAGE sql IMMUTABLE;
+
+-- 기존 데이터 백필
+UPDATE book SET title_choseong = to_choseong(title) WHERE title_choseong IS NULL;
+UPDATE writer SET writer_name_choseong = to_choseong(writer_name) WHERE writer_name_choseong IS NULL;
+
+-- 부분 일치(ILIKE '%keyword%') 검색용 trigram 인덱스
+CREATE INDEX IF NOT EXISTS idx_book_title_trgm ON book USING gin (title gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_book_title_choseong_trgm ON book USING gin (title_choseong gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_writer_name_trgm ON writer USING gin (writer_name gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_writer_name_choseong_trgm ON writer USING gin (writer_name_choseong gin_trgm_ops);
+
+-- 책장 조회/작가 조회 보조 인덱스
+CREATE INDEX IF NOT EXISTS idx_my_book_member_created ON my_book (member_id, created_at DESC, mybook_id DESC);
+CREATE INDEX IF NOT EXISTS idx_author_book ON author (book_id);
@@ -0,0 +1,142 @@
+package com.ikdaman.domain.auth.service;
+
+import com.ikdaman.global.auth.client.KakaoClient;
+import com.ikdaman.global.auth.client.NaverClient;
+import com.ikdaman.global.auth.client.SocialClientProperties;
+import com.ikdaman.global.auth.client.SocialClientResilience;
+import com.ikdaman.global.auth.client.SocialProviderIdCache;
+import com.ikdaman.global.auth.client.SocialTokenClient;
+import com.ikdaman.global.auth.enumerate.Provider;
+import com.ikdaman.global.exception.BaseException;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Executors;
+
+import static com.ikdaman.global.exception.ErrorCode.KAKAO_SERVER_ERROR;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 소셜 제공자 장애(응답 지연) 상황에서의 로그인 토큰 검증 부하 테스트
+ * - 로컬 스텁 서버로 Kakao 응답 지연을 재현하고, 동시에 들어온 로그인 요청이
+ *   스레드를 점유하지 않고 timeout/bulkhead/서킷 브레이커로 빠르게 실패하는지 확인
+ */
+class SocialTokenValidatorLoadTest {
+
+    private static final int CONCURRENT_LOGINS = 200;
+    private static final int MAX_CONCURRENT_CALLS = 10;
+    private static final Duration KAKAO_STALL = Duration.ofSeconds(5);
+
+    private HttpServer server;
+    private SocialTokenValidator validator;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/kakao", exchange -> {
+            sleep(KAKAO_STALL);
+            respond(exchange, "{\"id\":1}");
+        });
+        server.createContext("/naver", exchange ->
+                respond(exchange, "{\"resultcode\":\"00\",\"message\":\"success\",\"response\":{\"id\":\"naver-1\"}}"));
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.start();
+        String baseUri = "http://127.0.0.1:" + server.getAddress().getPort();
+
+        WebClient webClient = WebClient.create();
+        KakaoClient kakaoClient = new KakaoClient(webClient);
+        ReflectionTestUtils.setField(kakaoClient, "userInfoUri", baseUri + "/kakao");
+        NaverClient naverClient = new NaverClient(webClient);
+        ReflectionTestUtils.setField(naverClient, "userInfoUri", baseUri + "/naver");
+
+        SocialClientProperties properties = new SocialClientProperties();
+        SocialClientProperties.Policy kakaoPolicy = new SocialClientProperties.Policy();
+        kakaoPolicy.setTimeout(Duration.ofMillis(300));
+        kakaoPolicy.setMaxConcurrentCalls(MAX_CONCURRENT_CALLS);
+        properties.getProviders().put(Provider.KAKAO, kakaoPolicy);
+
+        List<SocialTokenClient> clients = List.of(kakaoClient, naverClient,
+                new UnusedClient(Provider.GOOGLE), new UnusedClient(Provider.APPLE));
+        meterRegistry = new SimpleMeterRegistry();
+        validator = new SocialTokenValidator(clients, new SocialClientResilience(properties, meterRegistry),
+                new SocialProviderIdCache(5, 10000, meterRegistry), meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    void 카카오_응답이_지연되어도_스레드를_점유하지_않고_빠르게_실패하며_네이버_로그인은_영향이_없다() {
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        threads.resetPeakThreadCount();
+        int threadsBefore = threads.getThreadCount();
+        long start = System.nanoTime();
+
+        List<Throwable> kakaoErrors = Flux.range(0, CONCURRENT_LOGINS)
+                .flatMap(i -> validator.validate(Provider.KAKAO, "token-" + i)
+                        .map(providerId -> (Throwable) new AssertionError("지연된 요청이 성공함"))
+                        .onErrorResume(Mono::just), CONCURRENT_LOGINS)
+                .collectList()
+                .block(Duration.ofSeconds(10));
+        String naverProviderId = validator.validate(Provider.NAVER, "token").block(Duration.ofSeconds(3));
+
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+        int threadGrowth = threads.getPeakThreadCount() - threadsBefore;
+
+        // 모든 카카오 요청은 제공자 지연(5초)을 기다리지 않고 timeout, bulkhead 또는 서킷 차단으로 실패
+        assertThat(kakaoErrors).hasSize(CONCURRENT_LOGINS)
+                .allSatisfy(e -> assertThat(((BaseException) e).getErrorCode()).isEqualTo(KAKAO_SERVER_ERROR));
+        assertThat(elapsed).isLessThan(KAKAO_STALL);
+        // 다른 제공자의 로그인은 정상 처리
+        assertThat(naverProviderId).isEqualTo("naver-1");
+        assertThat(meterRegistry.get("auth.social.validate").tags("provider", "KAKAO", "outcome", "error")
+                .timer().count()).isEqualTo(CONCURRENT_LOGINS);
+        // 요청마다 스레드를 점유했다면 CONCURRENT_LOGINS개 이상 늘어났을 것
+        // (스텁 서버 스레드 + Netty 이벤트 루프 정도만 증가)
+        assertThat(threadGrowth).isLessThan(CONCURRENT_LOGINS / 4);
+    }
+
+    private static void respond(HttpExchange exchange, String json) throws IOException {
+        byte[] body = json.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    // 이 테스트에서 호출하지 않는 제공자
+    private record UnusedClient(Provider provider) implements SocialTokenClient {
+        @Override
+        public Mono<String> fetchProviderId(String token) {
+            return Mono.error(new AssertionError(provider + " 호출됨"));
+        }
+    }
+
+    private static void sleep(Duration duration) {
+        try {
+            Thread.sleep(duration.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.ikdaman.domain.book.service;
+
+import com.ikdaman.domain.mybook.model.MyBookReq;
+import com.ikdaman.domain.mybook.service.HomeSnapshotCache;
+import com.ikdaman.domain.mybook.service.MyBookServiceImpl;
+import com.ikdaman.global.exception.BaseException;
+import com.ikdaman.global.exception.ErrorCode;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 책 카탈로그 INSERT ... ON CONFLICT 등록 (PostgreSQL 전용 쿼리이므로 로컬 PostgreSQL 필요)
+ * - 실행: POSTGRES_TEST_URL=jdbc:postgresql://localhost:5432/ikdaman_test gradle test --tests '*BookCatalogServiceImplTest'
+ *   (계정: POSTGRES_TEST_USERNAME, POSTGRES_TEST_PASSWORD, 기본값 postgres)
+ */
+@EnabledIfEnvironmentVariable(named = "POSTGRES_TEST_URL", matches = ".+")
+@DataJpaTest(properties = {
+        "spring.datasource.url=${POSTGRES_TEST_URL}",
+        "spring.datasource.username=${POSTGRES_TEST_USERNAME:postgres}",
+        "spring.datasource.password=${POSTGRES_TEST_PASSWORD:postgres}"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({BookCatalogServiceImpl.class, MyBookServiceImpl.class})
+class BookCatalogServiceImplTest {
+
+    private static final String ISBN = "9788900000001";
+
+    @Autowired
+    private BookCatalogService bookCatalogService;
+
+    @Autowired
+    private MyBookServiceImpl myBookService;
+
+    @Autowired
+    private TestEntityManager em;
+
+    @MockitoBean
+    private HomeSnapshotCache homeSnapshotCache;
+
+    @Test
+    void 같은_책과_작가를_다시_등록하면_기존_ID를_반환한다() {
+        int bookId = bookCatalogService.registerBook(request("작가"));
+        int again = bookCatalogService.registerBook(request("작가"));
+
+        assertThat(again).isEqualTo(bookId);
+        assertThat(count("SELECT count(*) FROM book WHERE isbn = '" + ISBN + "'")).isEqualTo(1);
+        assertThat(count("SELECT count(*) FROM writer WHERE writer_name = '작가'")).isEqualTo(1);
+        assertThat(count("SELECT count(*) FROM author WHERE book_id = " + bookId)).isEqualTo(1);
+        assertThat(authorsDisplay(bookId)).isEqualTo("작가");
+    }
+
+    @Test
+    void 같은_책에_다른_작가를_등록하면_작가만_추가로_연결한다() {
+        int bookId = bookCatalogService.registerBook(request("작가 1"));
+        int again = bookCatalogService.registerBook(request("작가 2"));
+
+        assertThat(again).isEqualTo(bookId);
+        assertThat(count("SELECT count(*) FROM author WHERE book_id = " + bookId)).isEqualTo(2);
+        assertThat(authorsDisplay(bookId)).isEqualTo("작가 1, 작가 2");
+    }
+
+    @Test
+    void 책장에_이미_있는_책을_다시_추가하면_중복으로_처리한다() {
+        UUID memberId = UUID.randomUUID();
+        myBookService.addMyBook(memberId, request("작가"));
+
+        assertThatThrownBy(() -> myBookService.addMyBook(memberId, request("작가")))
+                .isInstanceOfSatisfying(BaseException.class,
+                        e -> assertThat(e.getErrorCode()).isEqualTo(ErrorCode.MY_BOOK_ALREADY_EXISTS));
+    }
+
+    private MyBookReq request(String writer) {
+        return MyBookReq.builder()
+                .title("책")
+                .writer(writer)
+                .publisher("출판사")
+                .isbn(ISBN)
+                .page(300)
+                .itemId(1)
+                .impression("")
+                .build();
+    }
+
+    private long count(String sql) {
+        return ((Number) em.getEntityManager().createNativeQuery(sql).getSingleResult()).longValue();
+    }
+
+    private String authorsDisplay(int bookId) {
+        return (String) em.getEntityManager()
+                .createNativeQuery("SELECT authors_display FROM book WHERE book_id = " + bookId)
+                .getSingleResult();
+    }
+}
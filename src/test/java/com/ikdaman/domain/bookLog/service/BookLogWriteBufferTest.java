@@ -0,0 +1,197 @@
+package com.ikdaman.domain.bookLog.service;
+
+import com.ikdaman.domain.book.entity.Book;
+import com.ikdaman.domain.bookLog.entity.BookLog;
+import com.ikdaman.domain.bookLog.model.BookLogReq;
+import com.ikdaman.domain.bookLog.model.BookLogType;
+import com.ikdaman.domain.mybook.entity.MyBook;
+import com.ikdaman.domain.mybook.service.HomeSnapshotCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.BeanUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+// 버퍼는 별도 트랜잭션(REQUIRES_NEW)으로 저장하므로 테스트 데이터도 커밋해서 사용
+@DataJpaTest(properties = {"booklog.write-behind.enabled=true", "booklog.write-behind.max-pending=3"})
+@Import({BookLogWriteBuffer.class, SimpleMeterRegistry.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class BookLogWriteBufferTest {
+
+    @Autowired
+    private BookLogWriteBuffer bookLogWriteBuffer;
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @MockitoBean
+    private HomeSnapshotCache homeSnapshotCache;
+
+    @MockitoBean
+    private TaskScheduler taskScheduler;
+
+    private TransactionTemplate transactionTemplate;
+
+    private final UUID memberId = UUID.randomUUID();
+    private Long mybookId;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        mybookId = transactionTemplate.execute(status -> (long) persistMyBook().getMybookId());
+    }
+
+    @AfterEach
+    void tearDown() {
+        transactionTemplate.executeWithoutResult(status -> {
+            em.getEntityManager().createQuery("DELETE FROM BookLog").executeUpdate();
+            em.getEntityManager().createQuery("DELETE FROM MyBook").executeUpdate();
+            em.getEntityManager().createQuery("DELETE FROM Book").executeUpdate();
+        });
+    }
+
+    private MyBook persistMyBook() {
+        Book book = em.persist(Book.builder()
+                .title("책")
+                .publisher("출판사")
+                .isbn("9780000000001")
+                .page(300)
+                .build());
+        MyBook myBook = em.persist(MyBook.builder()
+                .memberId(memberId)
+                .book(book)
+                .nowPage(0)
+                .isReading(true)
+                .status(MyBook.Status.ACTIVE)
+                .build());
+        em.flush();
+        return myBook;
+    }
+
+    @Test
+    void 버퍼에_쌓인_기록은_한_번에_저장되고_현재_페이지는_마지막_값으로_합쳐진다() {
+        for (int page : new int[]{10, 20, 30}) {
+            bookLogWriteBuffer.enqueue(mybookId, memberId, bookLogReq(page));
+        }
+
+        bookLogWriteBuffer.flush();
+
+        assertThat(savedPages()).containsExactlyInAnyOrder(10, 20, 30);
+        assertThat(nowPage()).isEqualTo(30);
+        verify(homeSnapshotCache).evict(memberId);
+    }
+
+    @Test
+    void 요청_트랜잭션이_롤백되어도_이미_저장한_기록은_유지된다() {
+        bookLogWriteBuffer.enqueue(mybookId, memberId, bookLogReq(10));
+
+        transactionTemplate.executeWithoutResult(status -> {
+            bookLogWriteBuffer.flush();
+            status.setRollbackOnly();
+        });
+
+        assertThat(savedPages()).containsExactly(10);
+    }
+
+    @Test
+    void 버퍼가_가득_차면_요청_스레드에서_저장하지_않고_스케줄러에_요청한_뒤_기록을_받지_않는다() {
+        for (int page : new int[]{10, 20, 30}) {
+            assertThat(bookLogWriteBuffer.enqueue(mybookId, memberId, bookLogReq(page))).isTrue();
+        }
+        assertThat(bookLogWriteBuffer.enqueue(mybookId, memberId, bookLogReq(40))).isFalse();
+
+        verify(taskScheduler, times(1)).schedule(any(Runnable.class), any(Instant.class));
+        assertThat(savedPages()).isEmpty();
+
+        // 받지 않은 기록의 현재 페이지도 버퍼에서 마지막 값으로 저장
+        bookLogWriteBuffer.flush();
+        assertThat(savedPages()).containsExactlyInAnyOrder(10, 20, 30);
+        assertThat(nowPage()).isEqualTo(40);
+    }
+
+    @Test
+    void 비활성화_상태에서는_주기_저장을_등록하지_않는다() {
+        newBuffer(false).scheduleFlush();
+        verify(taskScheduler, never()).scheduleWithFixedDelay(any(Runnable.class), any(Duration.class));
+
+        newBuffer(true).scheduleFlush();
+        verify(taskScheduler, times(1)).scheduleWithFixedDelay(any(Runnable.class), eq(Duration.ofMillis(1000)));
+    }
+
+    @Test
+    void 완독된_책의_현재_페이지는_덮어쓰지_않는다() {
+        bookLogWriteBuffer.enqueue(mybookId, memberId, bookLogReq(10));
+        transactionTemplate.executeWithoutResult(status -> {
+            MyBook myBook = em.find(MyBook.class, mybookId.intValue());
+            em.persist(BookLog.builder()
+                    .myBook(myBook)
+                    .page(300)
+                    .content("완독")
+                    .booklogType(BookLogType.REVIEW.name())
+                    .build());
+            myBook.updateNowPage(300);
+        });
+
+        bookLogWriteBuffer.flush();
+
+        assertThat(nowPage()).isEqualTo(300);
+    }
+
+    private BookLogWriteBuffer newBuffer(boolean enabled) {
+        return new BookLogWriteBuffer(entityManager, jdbcTemplate, transactionManager, taskScheduler,
+                homeSnapshotCache, new SimpleMeterRegistry(), enabled, 50, 3, 1000);
+    }
+
+    private List<Integer> savedPages() {
+        return transactionTemplate.execute(status -> em.getEntityManager()
+                .createQuery("SELECT bl.page FROM BookLog bl WHERE bl.myBook.mybookId = :id AND bl.booklogType = 'THINK'",
+                        Integer.class)
+                .setParameter("id", mybookId.intValue())
+                .getResultList());
+    }
+
+    private int nowPage() {
+        return transactionTemplate.execute(status -> em.find(MyBook.class, mybookId.intValue()).getNowPage());
+    }
+
+    private BookLogReq bookLogReq(int page) {
+        BookLogReq request = BeanUtils.instantiateClass(BookLogReq.class);
+        ReflectionTestUtils.setField(request, "page", page);
+        ReflectionTestUtils.setField(request, "content", "생각 " + page);
+        return request;
+    }
+}
@@ -0,0 +1,95 @@
+package com.ikdaman.domain.member.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.ikdaman.domain.member.entity.Member;
+import com.ikdaman.domain.member.model.CachedMember;
+import com.ikdaman.domain.member.repository.MemberRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 회원 캐시 적재와 무효화가 겹치는 경우 (로컬 Redis 필요)
+ * - 서버 A가 DB에서 이전 값을 읽은 뒤, 서버 B의 변경 커밋과 무효화가 끝나고 나서 A가 Redis에 저장하는 순서를 재현
+ * - 실행: REDIS_BENCHMARK_HOST=localhost gradle test --tests '*MemberCacheRaceTest'
+ */
+@EnabledIfEnvironmentVariable(named = "REDIS_BENCHMARK_HOST", matches = ".+")
+class MemberCacheRaceTest {
+
+    private final UUID memberId = UUID.randomUUID();
+    private final AtomicReference<Member> row = new AtomicReference<>(member("이전 닉네임"));
+    private final MemberRepository memberRepository = mock(MemberRepository.class);
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    private LettuceConnectionFactory connectionFactory;
+    private StringRedisTemplate redisTemplate;
+
+    @BeforeEach
+    void setUp() {
+        connectionFactory = new LettuceConnectionFactory(
+                new RedisStandaloneConfiguration(System.getenv("REDIS_BENCHMARK_HOST"), 6379));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+        when(memberRepository.findById(memberId)).thenAnswer(invocation -> Optional.of(row.get()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        redisTemplate.delete(List.of("MBR: " + memberId, "MBR_V: " + memberId));
+        connectionFactory.destroy();
+    }
+
+    @Test
+    void DB_조회_이후_무효화되면_읽은_이전_값을_Redis에_저장하지_않는다() {
+        MemberCache writerNode = newCache(memberRepository);
+
+        // 서버 A: DB에서 이전 값을 읽은 직후 서버 B가 변경을 커밋하고 무효화
+        MemberRepository slowReader = mock(MemberRepository.class);
+        when(slowReader.findById(memberId)).thenAnswer(invocation -> {
+            Member stale = row.get();
+            CompletableFuture.runAsync(() -> {
+                row.set(member("새 닉네임"));
+                writerNode.evict(memberId);
+            }).join();
+            return Optional.of(stale);
+        });
+        MemberCache readerNode = newCache(slowReader);
+
+        assertThat(readerNode.get(memberId)).map(CachedMember::nickname).contains("이전 닉네임");
+
+        // 이전 값이 Redis에 남지 않아 다른 서버는 새 값을 적재
+        assertThat(redisTemplate.hasKey("MBR: " + memberId)).isFalse();
+        assertThat(newCache(memberRepository).get(memberId)).map(CachedMember::nickname).contains("새 닉네임");
+        assertThat(redisTemplate.hasKey("MBR: " + memberId)).isTrue();
+    }
+
+    private MemberCache newCache(MemberRepository repository) {
+        return new MemberCache(redisTemplate, objectMapper, repository, 100, 60, 600);
+    }
+
+    private Member member(String nickname) {
+        return Member.builder()
+                .memberId(memberId)
+                .nickname(nickname)
+                .socialType(Member.SocialType.KAKAO)
+                .providerId("kakao-1")
+                .status(Member.Status.ACTIVE)
+                .build();
+    }
+}
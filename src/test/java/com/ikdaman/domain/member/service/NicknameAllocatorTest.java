@@ -0,0 +1,86 @@
+package com.ikdaman.domain.member.service;
+
+import com.ikdaman.domain.member.repository.MemberRepository;
+import com.ikdaman.global.util.RandomNickname;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class NicknameAllocatorTest {
+
+    private static final String TAKEN_KEY = "NICK: TAKEN";
+
+    private final RandomNickname randomNickname = new RandomNickname();
+    private final String nickname = randomNickname.nicknameAt(42);
+
+    @SuppressWarnings("unchecked")
+    private final RedisTemplate<String, String> redisTemplate = mock(RedisTemplate.class);
+    @SuppressWarnings("unchecked")
+    private final ValueOperations<String, String> valueOperations = mock(ValueOperations.class);
+    private NicknameAllocator allocator;
+
+    @BeforeEach
+    void setUp() {
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        allocator = new NicknameAllocator(redisTemplate, mock(MemberRepository.class), randomNickname,
+                mock(TransactionTemplate.class));
+        TransactionSynchronizationManager.initSynchronization();
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    @Test
+    void 이미_표시된_닉네임은_사용할_수_없다() {
+        when(valueOperations.setBit(TAKEN_KEY, 42, true)).thenReturn(true);
+
+        assertThat(allocator.claim(nickname)).isFalse();
+        assertThat(TransactionSynchronizationManager.getSynchronizations()).isEmpty();
+    }
+
+    @Test
+    void 표시한_닉네임은_트랜잭션이_롤백되면_다시_비운다() {
+        when(valueOperations.setBit(TAKEN_KEY, 42, true)).thenReturn(false);
+
+        assertThat(allocator.claim(nickname)).isTrue();
+        complete(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        verify(valueOperations).setBit(TAKEN_KEY, 42, false);
+    }
+
+    @Test
+    void 표시한_닉네임은_커밋되면_유지한다() {
+        when(valueOperations.setBit(TAKEN_KEY, 42, true)).thenReturn(false);
+
+        assertThat(allocator.claim(nickname)).isTrue();
+        complete(TransactionSynchronization.STATUS_COMMITTED);
+
+        verify(valueOperations, never()).setBit(eq(TAKEN_KEY), anyLong(), eq(false));
+    }
+
+    @Test
+    void 랜덤_닉네임_형식이_아니면_표시하지_않는다() {
+        assertThat(allocator.claim("직접 지은 닉네임")).isTrue();
+
+        verify(valueOperations, never()).setBit(eq(TAKEN_KEY), anyLong(), eq(true));
+    }
+
+    private void complete(int status) {
+        TransactionSynchronizationManager.getSynchronizations().forEach(sync -> sync.afterCompletion(status));
+    }
+}
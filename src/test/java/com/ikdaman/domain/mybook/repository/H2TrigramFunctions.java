@@ -0,0 +1,37 @@
+package com.ikdaman.domain.mybook.repository;
+
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * H2에서 pg_trgm similarity()를 흉내 내는 함수 (CREATE ALIAS로 등록)
+ * - 단어마다 앞 공백 2칸, 뒤 공백 1칸을 붙여 만든 trigram 집합의 자카드 유사도
+ */
+public final class H2TrigramFunctions {
+
+    private H2TrigramFunctions() { }
+
+    public static double similarity(String a, String b) {
+        if (a == null || b == null) return 0;
+        Set<String> left = trigrams(a);
+        Set<String> right = trigrams(b);
+        if (left.isEmpty() || right.isEmpty()) return 0;
+
+        Set<String> common = new HashSet<>(left);
+        common.retainAll(right);
+        return (double) common.size() / (left.size() + right.size() - common.size());
+    }
+
+    private static Set<String> trigrams(String text) {
+        Set<String> trigrams = new HashSet<>();
+        for (String word : text.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+")) {
+            if (word.isEmpty()) continue;
+            String padded = "  " + word + " ";
+            for (int i = 0; i + 3 <= padded.length(); i++) {
+                trigrams.add(padded.substring(i, i + 3));
+            }
+        }
+        return trigrams;
+    }
+}
@@ -0,0 +1,119 @@
+package com.ikdaman.domain.mybook.repository;
+
+import com.ikdaman.domain.book.entity.Author;
+import com.ikdaman.domain.book.entity.Book;
+import com.ikdaman.domain.book.entity.Writer;
+import com.ikdaman.domain.mybook.entity.MyBook;
+import com.ikdaman.domain.mybook.model.MyBookSummary;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 책장 키워드 검색 (PostgreSQL 전용 similarity()는 H2TrigramFunctions로 대신함)
+@DataJpaTest
+class MyBookRepositoryTest {
+
+    @Autowired
+    private MyBookRepository myBookRepository;
+
+    @Autowired
+    private TestEntityManager em;
+
+    private final UUID memberId = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        em.getEntityManager().createNativeQuery("CREATE ALIAS IF NOT EXISTS similarity FOR \""
+                + H2TrigramFunctions.class.getName() + ".similarity\"").executeUpdate();
+
+        addBook(memberId, "9780000000001", "해리 포터와 마법사의 돌", "조앤 롤링", 300, 0);
+        addBook(memberId, "9780000000002", "소년이 온다", "한강", 200, 200);
+        addBook(memberId, "9780000000003", "Harry Potter and the Chamber of Secrets", "J. K. Rowling", 350, 10);
+        addBook(memberId, "9780000000004", "채식주의자", "한강", 250, 30);
+        // 다른 회원의 책은 검색되지 않음
+        addBook(UUID.randomUUID(), "9780000000005", "해리 포터와 불의 잔", "조앤 롤링", 700, 0);
+        em.flush();
+        em.clear();
+    }
+
+    @Test
+    void 제목과_작가명을_대소문자_구분_없이_부분_일치로_검색한다() {
+        assertThat(search(null, "harry", null).getContent())
+                .extracting(MyBookSummary::getTitle)
+                .containsExactly("Harry Potter and the Chamber of Secrets");
+        assertThat(search(null, "ROWLING", null).getContent())
+                .extracting(MyBookSummary::getTitle)
+                .containsExactly("Harry Potter and the Chamber of Secrets");
+        assertThat(search(null, "포터", null).getTotalElements()).isEqualTo(1);
+    }
+
+    @Test
+    void 초성만_입력하면_제목과_작가명의_초성으로_검색한다() {
+        assertThat(search(null, "ㅎㄹ ㅍㅌ", "ㅎㄹ ㅍㅌ").getContent())
+                .extracting(MyBookSummary::getTitle)
+                .containsExactly("해리 포터와 마법사의 돌");
+        assertThat(search(null, "ㅁㅂㅅ", "ㅁㅂㅅ").getContent())
+                .extracting(MyBookSummary::getTitle)
+                .containsExactly("해리 포터와 마법사의 돌");
+        // 작가명 초성 (한강)
+        assertThat(search(null, "ㅎㄱ", "ㅎㄱ").getContent())
+                .extracting(MyBookSummary::getTitle)
+                .containsExactlyInAnyOrder("소년이 온다", "채식주의자");
+    }
+
+    @Test
+    void 상태로_거르고_유사도가_높은_책부터_반환한다() {
+        assertThat(search(null, "한강", null).getContent())
+                .extracting(MyBookSummary::getTitle)
+                .containsExactlyInAnyOrder("소년이 온다", "채식주의자");
+        assertThat(search("completed", "한강", null).getContent())
+                .extracting(MyBookSummary::getTitle)
+                .containsExactly("소년이 온다");
+        assertThat(search("in-progress", "한강", null).getContent())
+                .extracting(MyBookSummary::getTitle)
+                .containsExactly("채식주의자");
+
+        // 제목 또는 작가명 중 키워드와 더 비슷한 쪽 기준으로 정렬
+        addBook(memberId, "9780000000006", "Rowling Biography", "Harry Author", 100, 0);
+        em.flush();
+        assertThat(search(null, "harry", null).getContent())
+                .extracting(MyBookSummary::getTitle)
+                .containsExactly("Rowling Biography", "Harry Potter and the Chamber of Secrets");
+    }
+
+    private Page<MyBookSummary> search(String status, String keyword, String choseong) {
+        return myBookRepository.searchMyBooksByKeyword(memberId, status, keyword, choseong, PageRequest.of(0, 10));
+    }
+
+    private void addBook(UUID owner, String isbn, String title, String writerName, int page, int nowPage) {
+        Book book = em.persist(Book.builder()
+                .title(title)
+                .publisher("출판사")
+                .isbn(isbn)
+                .page(page)
+                .authorsDisplay(writerName)
+                .build());
+        Writer writer = em.getEntityManager()
+                .createQuery("SELECT w FROM Writer w WHERE w.writerName = :name", Writer.class)
+                .setParameter("name", writerName)
+                .getResultStream()
+                .findFirst()
+                .orElseGet(() -> em.persist(Writer.builder().writerName(writerName).build()));
+        em.persist(Author.builder().book(book).writer(writer).build());
+        em.persist(MyBook.builder()
+                .memberId(owner)
+                .book(book)
+                .nowPage(nowPage)
+                .isReading(true)
+                .status(MyBook.Status.ACTIVE)
+                .build());
+    }
+}
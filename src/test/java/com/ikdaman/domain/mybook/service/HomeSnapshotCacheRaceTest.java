@@ -0,0 +1,67 @@
+package com.ikdaman.domain.mybook.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ikdaman.domain.mybook.model.InProgressBooksRes;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 홈 스냅샷 생성과 삭제가 겹치는 경우 (로컬 Redis 필요)
+ * - 조회 요청이 DB에서 스냅샷을 만드는 동안 다른 요청의 변경 커밋과 삭제가 끝나는 순서를 재현
+ * - 실행: REDIS_BENCHMARK_HOST=localhost gradle test --tests '*HomeSnapshotCacheRaceTest'
+ */
+@EnabledIfEnvironmentVariable(named = "REDIS_BENCHMARK_HOST", matches = ".+")
+class HomeSnapshotCacheRaceTest {
+
+    private final UUID memberId = UUID.randomUUID();
+
+    private LettuceConnectionFactory connectionFactory;
+    private StringRedisTemplate redisTemplate;
+    private HomeSnapshotCache cache;
+
+    @BeforeEach
+    void setUp() {
+        connectionFactory = new LettuceConnectionFactory(
+                new RedisStandaloneConfiguration(System.getenv("REDIS_BENCHMARK_HOST"), 6379));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+        cache = new HomeSnapshotCache(redisTemplate, new ObjectMapper(), 1800);
+    }
+
+    @AfterEach
+    void tearDown() {
+        redisTemplate.delete(List.of("HOME: " + memberId, "HOME_V: " + memberId));
+        connectionFactory.destroy();
+    }
+
+    @Test
+    void 조회_이후_삭제되면_이전_스냅샷을_저장하지_않는다() {
+        HomeSnapshotCache.Lookup stale = cache.get(memberId);
+        assertThat(stale.snapshot()).isNull();
+
+        // 스냅샷을 만드는 동안 다른 요청이 변경을 커밋하고 삭제
+        cache.evict(memberId);
+        cache.put(memberId, stale, snapshot());
+        assertThat(redisTemplate.hasKey("HOME: " + memberId)).isFalse();
+
+        // 삭제 이후 시작한 조회는 저장
+        HomeSnapshotCache.Lookup fresh = cache.get(memberId);
+        cache.put(memberId, fresh, snapshot());
+        assertThat(cache.get(memberId).snapshot()).isNotNull();
+    }
+
+    private InProgressBooksRes snapshot() {
+        return InProgressBooksRes.builder().books(List.of()).build();
+    }
+}
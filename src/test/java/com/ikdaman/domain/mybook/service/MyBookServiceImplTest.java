@@ -0,0 +1,171 @@
+package com.ikdaman.domain.mybook.service;
+
+import com.ikdaman.domain.book.entity.Author;
+import com.ikdaman.domain.book.entity.Book;
+import com.ikdaman.domain.book.entity.Writer;
+import com.ikdaman.domain.book.service.BookCatalogService;
+import com.ikdaman.domain.mybook.entity.MyBook;
+import com.ikdaman.domain.mybook.model.InProgressBooksRes;
+import com.ikdaman.domain.mybook.model.MyBookCursorRes;
+import com.ikdaman.domain.mybook.model.MyBookReq;
+import com.ikdaman.domain.mybook.model.MyBookSearchReq;
+import com.ikdaman.domain.mybook.model.MyBookSearchRes;
+import com.ikdaman.global.auth.model.AuthMember;
+import com.ikdaman.global.exception.BaseException;
+import com.ikdaman.global.exception.ErrorCode;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import(MyBookServiceImpl.class)
+class MyBookServiceImplTest {
+
+    private static final int BOOK_COUNT = 9;
+
+    @Autowired
+    private MyBookServiceImpl myBookService;
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @MockitoBean
+    private HomeSnapshotCache homeSnapshotCache;
+
+    @MockitoBean
+    private BookCatalogService bookCatalogService;
+
+    private final UUID memberId = UUID.randomUUID();
+    private int shelvedBookId;
+
+    @BeforeEach
+    void setUp() {
+        when(homeSnapshotCache.get(memberId)).thenReturn(HomeSnapshotCache.Lookup.UNAVAILABLE);
+        for (int i = 0; i < BOOK_COUNT; i++) {
+            Book book = em.persist(Book.builder()
+                    .title("책 " + i)
+                    .publisher("출판사")
+                    .isbn(String.format("9780000000%03d", i))
+                    .page(300)
+                    .build());
+            shelvedBookId = book.getBookId();
+            // 한 책에 작가 두 명
+            for (int j = 0; j < 2; j++) {
+                Writer writer = em.persist(Writer.builder().writerName("작가 " + i + "-" + j).build());
+                em.persist(Author.builder().book(book).writer(writer).build());
+            }
+            em.persist(MyBook.builder()
+                    .memberId(memberId)
+                    .book(book)
+                    .nowPage(0)
+                    .isReading(true)
+                    .status(MyBook.Status.ACTIVE)
+                    .build());
+        }
+        em.flush();
+        em.clear();
+    }
+
+    @Test
+    void 책장_한_페이지_조회는_작가_수와_관계없이_쿼리_수가_일정하다() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        MyBookSearchReq request = new MyBookSearchReq();
+        request.setPage(1);
+        request.setLimit(BOOK_COUNT);
+        MyBookSearchRes res = myBookService.searchMyBooks(request, new AuthMember(memberId, () -> null));
+
+        assertThat(res.getBooks()).hasSize(BOOK_COUNT);
+        assertThat(res.getBooks()).allSatisfy(book -> assertThat(book.getAuthor()).contains(", "));
+        // 목록 조회 + 작가 조회 (+ 필요 시 COUNT)
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(3);
+    }
+
+    @Test
+    void 커서로_책장을_끝까지_조회하면_중복_없이_모든_책을_반환한다() {
+        MyBookSearchReq request = new MyBookSearchReq();
+        request.setLimit(4);
+        AuthMember authMember = new AuthMember(memberId, () -> null);
+
+        Set<Integer> mybookIds = new HashSet<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            MyBookCursorRes res = myBookService.searchMyBooksByCursor(request, cursor, authMember);
+            res.getBooks().forEach(book -> assertThat(mybookIds.add(book.getMybookId())).isTrue());
+            cursor = res.getNextCursor();
+            assertThat(res.isHasNext()).isEqualTo(cursor != null);
+            pages++;
+        } while (cursor != null);
+
+        assertThat(mybookIds).hasSize(BOOK_COUNT);
+        assertThat(pages).isEqualTo(3);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, -1, MyBookService.MAX_CURSOR_LIMIT + 1})
+    void 커서_조회_개수가_범위를_벗어나면_잘못된_요청으로_처리한다(int limit) {
+        MyBookSearchReq request = new MyBookSearchReq();
+        request.setLimit(limit);
+
+        assertThatThrownBy(() -> myBookService.searchMyBooksByCursor(request, null, new AuthMember(memberId, () -> null)))
+                .isInstanceOfSatisfying(BaseException.class,
+                        e -> assertThat(e.getErrorCode()).isEqualTo(ErrorCode.BAD_REQUEST_BY_VALIDATION));
+        assertThatThrownBy(() -> myBookService.getMyBookLogsByCursor(memberId, 1L, null, limit))
+                .isInstanceOfSatisfying(BaseException.class,
+                        e -> assertThat(e.getErrorCode()).isEqualTo(ErrorCode.BAD_REQUEST_BY_VALIDATION));
+    }
+
+    @Test
+    void 책장에_이미_있는_책을_다시_추가하면_중복으로_처리한다() {
+        when(bookCatalogService.registerBook(any())).thenReturn(shelvedBookId);
+        MyBookReq request = MyBookReq.builder()
+                .title("책")
+                .writer("작가")
+                .isbn("9780000000000")
+                .impression("")
+                .build();
+
+        assertThatThrownBy(() -> myBookService.addMyBook(memberId, request))
+                .isInstanceOfSatisfying(BaseException.class,
+                        e -> assertThat(e.getErrorCode()).isEqualTo(ErrorCode.MY_BOOK_ALREADY_EXISTS));
+    }
+
+    @Test
+    void 홈_읽고_있는_책은_작가_수와_관계없이_쿼리_수가_일정하다() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        InProgressBooksRes res = myBookService.searchInProgressBooks(new AuthMember(memberId, () -> null));
+
+        assertThat(res.getBooks()).hasSize(BOOK_COUNT);
+        assertThat(res.getBooks()).allSatisfy(book -> {
+            assertThat(book.getAuthor()).contains(", ");
+            assertThat(book.getProgress()).isEqualTo("0");
+        });
+        // 나의 책(+책) 조회 + 첫인상 조회 + 작가 조회
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(3);
+    }
+}
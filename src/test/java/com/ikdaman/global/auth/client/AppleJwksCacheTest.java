@@ -0,0 +1,90 @@
+package com.ikdaman.global.auth.client;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.security.KeyPair;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AppleJwksCacheTest {
+
+    private StubJwksServer server;
+    private AppleJwksCache cache;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        server = new StubJwksServer();
+        cache = new AppleJwksCache(WebClient.create(), server.keysUri(), Duration.ofHours(1),
+                Duration.ofMinutes(5), Duration.ZERO, Duration.ofSeconds(3), Clock.systemUTC());
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.close();
+    }
+
+    @Test
+    void 한_번_조회한_공개키는_다시_조회하지_않고_서명_검증에_사용한다() {
+        KeyPair keyPair = server.addKey("k1");
+        String idToken = Jwts.builder()
+                .setHeaderParam("kid", "k1")
+                .setSubject("apple-user")
+                .signWith(keyPair.getPrivate(), SignatureAlgorithm.RS256)
+                .compact();
+
+        assertThat(cache.getParser("k1").parseClaimsJws(idToken).getBody().getSubject()).isEqualTo("apple-user");
+        assertThat(cache.getParser("k1")).isNotNull();
+        assertThat(server.requestCount()).isEqualTo(1);
+    }
+
+    @Test
+    void 모르는_kid로_동시에_요청해도_JWKS는_한_번만_조회한다() throws Exception {
+        server.addKey("k1");
+        cache.refresh();
+        server.addKey("k2");
+        server.setDelayMillis(300);
+
+        int threads = 20;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Boolean>> results = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            results.add(executor.submit(() -> {
+                start.await();
+                return cache.getParser("k2") != null;
+            }));
+        }
+        start.countDown();
+
+        for (Future<Boolean> result : results) {
+            assertThat(result.get()).isTrue();
+        }
+        executor.shutdown();
+        assertThat(server.requestCount()).isEqualTo(2);
+    }
+
+    @Test
+    void 조회에_실패하면_기존_공개키를_계속_사용한다() {
+        server.addKey("k1");
+        cache.refresh();
+
+        server.setUnavailable(true);
+        cache.refresh();
+
+        assertThat(cache.getParser("k1")).isNotNull();
+        assertThat(cache.getParser("unknown")).isNull();
+    }
+}
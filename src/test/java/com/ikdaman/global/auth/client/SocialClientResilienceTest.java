@@ -0,0 +1,78 @@
+package com.ikdaman.global.auth.client;
+
+import com.ikdaman.global.auth.enumerate.Provider;
+import com.ikdaman.global.exception.BaseException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.ikdaman.global.exception.ErrorCode.INVALID_SOCIAL_ACCESS_TOKEN;
+import static com.ikdaman.global.exception.ErrorCode.KAKAO_SERVER_ERROR;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SocialClientResilienceTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private SocialClientResilience resilience;
+
+    @BeforeEach
+    void setUp() {
+        SocialClientProperties properties = new SocialClientProperties();
+        SocialClientProperties.Policy policy = new SocialClientProperties.Policy();
+        policy.setSlidingWindowSize(4);
+        policy.setMinimumNumberOfCalls(4);
+        policy.setMaxRetries(1);
+        policy.setRetryBackoff(Duration.ofMillis(1));
+        properties.getProviders().put(Provider.KAKAO, policy);
+
+        meterRegistry = new SimpleMeterRegistry();
+        resilience = new SocialClientResilience(properties, meterRegistry);
+    }
+
+    @Test
+    void 제공자_장애가_계속되면_서킷이_열리고_이후_호출은_제공자에_도달하지_않는다() {
+        AtomicInteger calls = new AtomicInteger();
+        Mono<String> failing = Mono.defer(() -> {
+            calls.incrementAndGet();
+            return Mono.error(new BaseException(KAKAO_SERVER_ERROR));
+        });
+
+        // 재시도 포함 4번 실패하면 차단
+        for (int i = 0; i < 2; i++) {
+            assertThatThrownBy(() -> resilience.decorate(Provider.KAKAO, failing).block())
+                    .isInstanceOf(BaseException.class);
+        }
+        assertThat(resilience.state(Provider.KAKAO)).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(calls).hasValue(4);
+
+        assertThatThrownBy(() -> resilience.decorate(Provider.KAKAO, failing).block())
+                .isInstanceOf(CallNotPermittedException.class);
+        assertThat(calls).hasValue(4);
+        assertThat(meterRegistry.get("resilience4j.circuitbreaker.state")
+                .tags("name", "KAKAO", "state", "open").gauge().value()).isEqualTo(1.0);
+    }
+
+    @Test
+    void 잘못된_토큰은_재시도하지_않고_실패로_집계하지_않는다() {
+        AtomicInteger calls = new AtomicInteger();
+        Mono<String> invalid = Mono.defer(() -> {
+            calls.incrementAndGet();
+            return Mono.error(new BaseException(INVALID_SOCIAL_ACCESS_TOKEN));
+        });
+
+        for (int i = 0; i < 10; i++) {
+            assertThatThrownBy(() -> resilience.decorate(Provider.KAKAO, invalid).block())
+                    .isInstanceOf(BaseException.class);
+        }
+        assertThat(calls).hasValue(10);
+        assertThat(resilience.state(Provider.KAKAO)).isEqualTo(CircuitBreaker.State.CLOSED);
+        assertThat(meterRegistry.get("auth.social.retries").tag("provider", "KAKAO").counter().count()).isZero();
+    }
+}
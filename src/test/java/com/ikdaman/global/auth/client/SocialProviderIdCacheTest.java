@@ -0,0 +1,63 @@
+package com.ikdaman.global.auth.client;
+
+import com.ikdaman.global.auth.enumerate.Provider;
+import com.ikdaman.global.exception.BaseException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.ikdaman.global.exception.ErrorCode.KAKAO_SERVER_ERROR;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SocialProviderIdCacheTest {
+
+    private final SocialProviderIdCache cache = new SocialProviderIdCache(5, 100, new SimpleMeterRegistry());
+
+    @Test
+    void 같은_토큰으로_동시에_요청하면_제공자는_한_번만_호출한다() {
+        AtomicInteger calls = new AtomicInteger();
+        Mono<String> slowProvider = Mono.fromCallable(() -> {
+            calls.incrementAndGet();
+            return "kakao-1";
+        }).delaySubscription(Duration.ofMillis(200));
+
+        List<String> results = Flux.range(0, 20)
+                .flatMap(i -> cache.get(Provider.KAKAO, "token", () -> slowProvider))
+                .collectList()
+                .block(Duration.ofSeconds(3));
+        String retried = cache.get(Provider.KAKAO, "token", () -> slowProvider).block(Duration.ofSeconds(3));
+
+        assertThat(results).hasSize(20).containsOnly("kakao-1");
+        assertThat(retried).isEqualTo("kakao-1");
+        assertThat(calls).hasValue(1);
+    }
+
+    @Test
+    void 실패한_결과는_보관하지_않는다() {
+        AtomicInteger calls = new AtomicInteger();
+        Mono<String> failing = Mono.defer(() -> {
+            calls.incrementAndGet();
+            return Mono.error(new BaseException(KAKAO_SERVER_ERROR));
+        });
+
+        assertThatThrownBy(() -> cache.get(Provider.KAKAO, "token", () -> failing).block())
+                .isInstanceOf(BaseException.class);
+        String providerId = cache.get(Provider.KAKAO, "token", () -> Mono.just("kakao-1")).block();
+
+        assertThat(providerId).isEqualTo("kakao-1");
+        assertThat(calls).hasValue(1);
+    }
+
+    @Test
+    void 제공자가_다르면_같은_토큰이어도_따로_조회한다() {
+        cache.get(Provider.KAKAO, "token", () -> Mono.just("kakao-1")).block();
+
+        assertThat(cache.get(Provider.NAVER, "token", () -> Mono.just("naver-1")).block()).isEqualTo("naver-1");
+    }
+}
@@ -0,0 +1,115 @@
+package com.ikdaman.global.auth.client;
+
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.NoSuchAlgorithmException;
+import java.security.interfaces.RSAPublicKey;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+/**
+ * 테스트용 로컬 JWKS 서버
+ * - kid별 RSA 키쌍을 만들어 /auth/keys 로 공개키 목록을 응답
+ * - 요청 수 확인, 응답 지연, 장애(503) 상황 재현 가능
+ */
+class StubJwksServer implements AutoCloseable {
+
+    private final HttpServer server;
+    private final Map<String, KeyPair> keyPairs = new LinkedHashMap<>();
+    private final AtomicInteger requestCount = new AtomicInteger();
+    private volatile boolean unavailable;
+    private volatile long delayMillis;
+
+    StubJwksServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/auth/keys", exchange -> {
+            requestCount.incrementAndGet();
+            sleep(delayMillis);
+            byte[] body = (unavailable ? "" : jwks()).getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.getResponseHeaders().add("Cache-Control", "max-age=3600");
+            exchange.sendResponseHeaders(unavailable ? 503 : 200, body.length == 0 ? -1 : body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.start();
+    }
+
+    String keysUri() {
+        return "http://127.0.0.1:" + server.getAddress().getPort() + "/auth/keys";
+    }
+
+    synchronized KeyPair addKey(String kid) {
+        try {
+            KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+            generator.initialize(2048);
+            KeyPair keyPair = generator.generateKeyPair();
+            keyPairs.put(kid, keyPair);
+            return keyPair;
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    int requestCount() {
+        return requestCount.get();
+    }
+
+    void setUnavailable(boolean unavailable) {
+        this.unavailable = unavailable;
+    }
+
+    void setDelayMillis(long delayMillis) {
+        this.delayMillis = delayMillis;
+    }
+
+    private synchronized String jwks() {
+        Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+        return keyPairs.entrySet().stream()
+                .map(entry -> {
+                    RSAPublicKey key = (RSAPublicKey) entry.getValue().getPublic();
+                    return String.format(
+                            "{\"kty\":\"RSA\",\"kid\":\"%s\",\"use\":\"sig\",\"alg\":\"RS256\",\"n\":\"%s\",\"e\":\"%s\"}",
+                            entry.getKey(),
+                            encoder.encodeToString(unsigned(key.getModulus().toByteArray())),
+                            encoder.encodeToString(unsigned(key.getPublicExponent().toByteArray())));
+                })
+                .collect(Collectors.joining(",", "{\"keys\":[", "]}"));
+    }
+
+    // BigInteger 부호 바이트 제거
+    private static byte[] unsigned(byte[] bytes) {
+        if (bytes.length > 1 && bytes[0] == 0) {
+            byte[] trimmed = new byte[bytes.length - 1];
+            System.arraycopy(bytes, 1, trimmed, 0, trimmed.length);
+            return trimmed;
+        }
+        return bytes;
+    }
+
+    private static void sleep(long millis) {
+        if (millis <= 0) return;
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+}
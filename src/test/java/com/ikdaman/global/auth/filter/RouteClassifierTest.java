@@ -0,0 +1,60 @@
+package com.ikdaman.global.auth.filter;
+
+import com.ikdaman.global.auth.enumerate.RouteType;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RouteClassifierTest {
+
+    private final RouteClassifier classifier = RouteClassifier.withDefaults();
+
+    @Test
+    void 공개_경로는_끝의_슬래시와_context_path에_관계없이_구분한다() {
+        assertThat(classifier.classify("/auth/login")).isEqualTo(RouteType.PUBLIC);
+        assertThat(classifier.classify("/auth/login/")).isEqualTo(RouteType.PUBLIC);
+        assertThat(classifier.classify("/members/check;jsessionid=abc")).isEqualTo(RouteType.PUBLIC);
+
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/auth/reissue");
+        request.setContextPath("/api");
+        assertThat(classifier.classify(request)).isEqualTo(RouteType.PUBLIC);
+    }
+
+    @Test
+    void 공개_경로를_포함하기만_하는_경로는_인증이_필요하다() {
+        assertThat(classifier.classify("/auth/logout")).isEqualTo(RouteType.AUTHENTICATED);
+        assertThat(classifier.classify("/auth/login/extra")).isEqualTo(RouteType.AUTHENTICATED);
+        assertThat(classifier.classify("/members/me")).isEqualTo(RouteType.AUTHENTICATED);
+        assertThat(classifier.classify("/mybooks/1/booklog")).isEqualTo(RouteType.AUTHENTICATED);
+        assertThat(classifier.classify("/")).isEqualTo(RouteType.AUTHENTICATED);
+        // 기본 공개 경로는 기존 제외 목록(/auth/login, /auth/reissue, /members/check)과 같음
+        assertThat(classifier.classify("/error")).isEqualTo(RouteType.AUTHENTICATED);
+        assertThat(classifier.classify("/actuator/health")).isEqualTo(RouteType.AUTHENTICATED);
+    }
+
+    @Test
+    void 접두_경로는_가장_긴_것을_사용한다() {
+        RouteClassifier custom = new RouteClassifier(List.of("/docs/**", "/admin/health"), List.of("/admin/**"));
+
+        assertThat(custom.classify("/docs")).isEqualTo(RouteType.PUBLIC);
+        assertThat(custom.classify("/docs/api/index.html")).isEqualTo(RouteType.PUBLIC);
+        assertThat(custom.classify("/docsx")).isEqualTo(RouteType.AUTHENTICATED);
+        assertThat(custom.classify("/admin/notices")).isEqualTo(RouteType.ADMIN);
+        assertThat(custom.classify("/admin/health")).isEqualTo(RouteType.PUBLIC);
+    }
+
+    @Test
+    void 토큰이_없는_요청도_다음_필터로_넘긴다() throws Exception {
+        JwtAuthenticationFilter filter = new JwtAuthenticationFilter(null, classifier);
+        MockFilterChain chain = new MockFilterChain();
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/mybooks"), new MockHttpServletResponse(), chain);
+
+        assertThat(chain.getRequest()).isNotNull();
+    }
+}
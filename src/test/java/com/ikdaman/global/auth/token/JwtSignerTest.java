@@ -0,0 +1,42 @@
+package com.ikdaman.global.auth.token;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.Test;
+
+import java.security.Key;
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JwtSignerTest {
+
+    private final Key key = Keys.hmacShaKeyFor("test-secret-key-test-secret-key-test-secret".getBytes());
+    private final JwtSigner signer = new JwtSigner(key);
+
+    @Test
+    void Jwts_builder로_만든_토큰과_같다() {
+        long exp = 1_900_000_000L;
+        String expected = Jwts.builder()
+                .setSubject("2f1c7a3e-5b7d-4c3a-9e2f-1a2b3c4d5e6f")
+                .claim("role", "USER")
+                .claim("sid", "abcdefghijklmnop")
+                .signWith(key, SignatureAlgorithm.HS256)
+                .setExpiration(new Date(exp * 1000))
+                .compact();
+
+        assertThat(signer.sign("2f1c7a3e-5b7d-4c3a-9e2f-1a2b3c4d5e6f", "USER", "abcdefghijklmnop", exp))
+                .isEqualTo(expected);
+    }
+
+    @Test
+    void 특수문자가_있는_값도_파싱된다() {
+        String token = signer.sign("a\"b\\c\nd", "USER", null, 1_900_000_000L);
+
+        Claims claims = Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token).getBody();
+        assertThat(claims.getSubject()).isEqualTo("a\"b\\c\nd");
+        assertThat(claims.get("sid")).isNull();
+    }
+}
@@ -0,0 +1,54 @@
+package com.ikdaman.global.auth.token;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TokenClaimsCacheTest {
+
+    private final TokenClaimsCache cache = new TokenClaimsCache(100, new SimpleMeterRegistry());
+
+    @Test
+    void 캐시된_Claims는_수정할_수_없고_원본_변경의_영향을_받지_않는다() {
+        Claims claims = claims(60_000).setSubject("member-1");
+        cache.put("token", claims);
+        claims.setSubject("member-2");
+
+        Claims cached = cache.get("token");
+        assertThat(cached.getSubject()).isEqualTo("member-1");
+        assertThatThrownBy(() -> cached.setSubject("member-3")).isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> cached.put("role", "ADMIN")).isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> cached.remove(Claims.SUBJECT)).isInstanceOf(UnsupportedOperationException.class);
+        cached.getExpiration().setTime(0);
+        assertThat(cache.get("token").getExpiration()).isInTheFuture();
+    }
+
+    @Test
+    void 토큰이_만료되면_캐시에서_조회되지_않는다() throws Exception {
+        // exp는 초 단위로 저장되므로 1초 이상 남도록 설정
+        cache.put("short", claims(2_000).setSubject("member-1"));
+        assertThat(cache.get("short")).isNotNull();
+
+        Thread.sleep(2_100);
+        assertThat(cache.get("short")).isNull();
+    }
+
+    @Test
+    void exp가_없거나_지난_토큰은_저장하지_않는다() {
+        cache.put("no-exp", Jwts.claims().setSubject("member-1"));
+        cache.put("expired", claims(-1_000).setSubject("member-1"));
+
+        assertThat(cache.get("no-exp")).isNull();
+        assertThat(cache.get("expired")).isNull();
+    }
+
+    private static Claims claims(long expiresInMillis) {
+        return Jwts.claims().setExpiration(new Date(System.currentTimeMillis() + expiresInMillis));
+    }
+}
@@ -0,0 +1,42 @@
+package com.ikdaman.global.exception;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.ResponseEntity;
+
+import java.nio.charset.StandardCharsets;
+
+import static com.ikdaman.global.exception.ErrorCode.EXPIRED_ACCESS_TOKEN;
+import static com.ikdaman.global.exception.ErrorCode.GOOGLE_SERVER_ERROR;
+import static com.ikdaman.global.exception.ErrorCode.MY_BOOK_ALREADY_EXISTS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class GlobalExceptionHandlerTest {
+
+    @Test
+    void 예상된_인증_실패는_스택_트레이스_없이_미리_직렬화된_응답과_카운터로_처리한다() throws Exception {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        GlobalExceptionHandler handler = new GlobalExceptionHandler(new ObjectMapper(), meterRegistry, 10_000);
+
+        ExpectedAuthException ex = ExpectedAuthException.of(EXPIRED_ACCESS_TOKEN);
+        ResponseEntity<byte[]> first = handler.handleCustomException(ex);
+        ResponseEntity<byte[]> second = handler.handleCustomException(ExpectedAuthException.of(EXPIRED_ACCESS_TOKEN));
+
+        assertThat(ex.getStackTrace()).isEmpty();
+        assertThat(first.getStatusCode().value()).isEqualTo(401);
+        assertThat(new String(first.getBody(), StandardCharsets.UTF_8))
+                .isEqualTo("{\"status\":401,\"code\":\"4010108\",\"message\":\"Access Token이 만료되었습니다.\"}");
+        assertThat(second.getBody()).isSameAs(first.getBody());
+        assertThat(meterRegistry.get("http.errors").tag("code", "EXPIRED_ACCESS_TOKEN").counter().count()).isEqualTo(2);
+    }
+
+    @Test
+    void 인증_실패가_아닌_ErrorCode로는_스택_트레이스_없는_예외를_만들_수_없다() {
+        assertThatThrownBy(() -> ExpectedAuthException.of(MY_BOOK_ALREADY_EXISTS))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> ExpectedAuthException.of(GOOGLE_SERVER_ERROR))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
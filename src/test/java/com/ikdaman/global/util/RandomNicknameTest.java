@@ -0,0 +1,36 @@
+package com.ikdaman.global.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RandomNicknameTest {
+
+    private final RandomNickname randomNickname = new RandomNickname();
+
+    @Test
+    void 모든_번호는_서로_다른_닉네임이고_닉네임에서_번호를_다시_구할_수_있다() {
+        Set<String> nicknames = new HashSet<>();
+        for (int i = 0; i < randomNickname.capacity(); i++) {
+            String nickname = randomNickname.nicknameAt(i);
+            assertThat(nickname.length()).isLessThanOrEqualTo(20);
+            assertThat(randomNickname.indexOf(nickname)).isEqualTo(i);
+            nicknames.add(nickname);
+        }
+        assertThat(nicknames).hasSize(randomNickname.capacity());
+    }
+
+    @Test
+    void 랜덤_닉네임_형식이_아니면_번호가_없다() {
+        assertThat(randomNickname.indexOf("책을 좋아하는 독서인 27")).isGreaterThanOrEqualTo(0);
+        assertThat(randomNickname.indexOf("책을 좋아하는 독서인 027")).isEqualTo(-1);
+        assertThat(randomNickname.indexOf("책을 좋아하는 독서인 1000")).isEqualTo(-1);
+        assertThat(randomNickname.indexOf("책을 좋아하는 독서인")).isEqualTo(-1);
+        assertThat(randomNickname.indexOf("독서인 27")).isEqualTo(-1);
+        assertThat(randomNickname.indexOf("익다만")).isEqualTo(-1);
+        assertThat(randomNickname.indexOf(null)).isEqualTo(-1);
+    }
+}
@@ -0,0 +1,153 @@
+package com.ikdaman.global.util;
+
+import com.ikdaman.global.auth.util.TokenDigestUtil;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static com.ikdaman.global.util.RedisService.RotationResult.DUPLICATE;
+import static com.ikdaman.global.util.RedisService.RotationResult.MISMATCH;
+import static com.ikdaman.global.util.RedisService.RotationResult.REUSED;
+import static com.ikdaman.global.util.RedisService.RotationResult.ROTATED;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * RefreshToken 세션 Lua 스크립트 (로컬 Redis 필요)
+ * - 실행: REDIS_BENCHMARK_HOST=localhost gradle test --tests '*RedisServiceTest'
+ */
+@EnabledIfEnvironmentVariable(named = "REDIS_BENCHMARK_HOST", matches = ".+")
+class RedisServiceTest {
+
+    private static final long TTL_MS = Duration.ofMinutes(10).toMillis();
+    private static final long GRACE_MS = 200;
+    private static final int THREADS = 16;
+
+    private final String memberId = UUID.randomUUID().toString();
+
+    private LettuceConnectionFactory connectionFactory;
+    private StringRedisTemplate redisTemplate;
+    private RedisService redisService;
+
+    @BeforeEach
+    void setUp() {
+        connectionFactory = new LettuceConnectionFactory(
+                new RedisStandaloneConfiguration(System.getenv("REDIS_BENCHMARK_HOST"), 6379));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+        redisService = new RedisService(redisTemplate, 5, GRACE_MS);
+    }
+
+    @AfterEach
+    void tearDown() {
+        redisService.deleteSessions(memberId);
+        connectionFactory.destroy();
+    }
+
+    @Test
+    void 같은_토큰으로_동시에_교체하면_하나만_성공한다() throws Exception {
+        redisService.startSession(memberId, "device-0", "token-0", TTL_MS);
+
+        List<Callable<RedisService.RotationResult>> tasks = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            String next = "token-1-" + i;
+            tasks.add(() -> redisService.rotateSession(memberId, "device-0", "token-0", next, TTL_MS));
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        int rotated = 0;
+        for (Future<RedisService.RotationResult> result : executor.invokeAll(tasks)) {
+            if (result.get() == ROTATED) rotated++;
+        }
+        executor.shutdown();
+
+        assertThat(rotated).isEqualTo(1);
+    }
+
+    @Test
+    void 교체_직후_직전_토큰으로_다시_요청하면_세션을_유지한다() {
+        redisService.startSession(memberId, "device-0", "token-0", TTL_MS);
+        assertThat(redisService.rotateSession(memberId, "device-0", "token-0", "token-1", TTL_MS)).isEqualTo(ROTATED);
+
+        assertThat(redisService.rotateSession(memberId, "device-0", "token-0", "token-1b", TTL_MS)).isEqualTo(DUPLICATE);
+        // 먼저 받은 응답의 토큰으로 계속 재발급 가능
+        assertThat(redisService.rotateSession(memberId, "device-0", "token-1", "token-2", TTL_MS)).isEqualTo(ROTATED);
+    }
+
+    @Test
+    void 유예_시간이_지난_뒤_직전_토큰을_사용하면_세션을_폐기한다() throws Exception {
+        redisService.startSession(memberId, "device-0", "token-0", TTL_MS);
+        redisService.rotateSession(memberId, "device-0", "token-0", "token-1", TTL_MS);
+        Thread.sleep(GRACE_MS + 100);
+
+        assertThat(redisService.rotateSession(memberId, "device-0", "token-0", "token-1b", TTL_MS)).isEqualTo(REUSED);
+        assertThat(redisService.rotateSession(memberId, "device-0", "token-1", "token-2", TTL_MS)).isEqualTo(MISMATCH);
+    }
+
+    @Test
+    void 두_번_이전에_교체된_토큰은_유예_시간과_관계없이_재사용으로_본다() {
+        redisService.startSession(memberId, "device-0", "token-0", TTL_MS);
+        redisService.startSession(memberId, "device-1", "other-0", TTL_MS);
+        redisService.rotateSession(memberId, "device-0", "token-0", "token-1", TTL_MS);
+        redisService.rotateSession(memberId, "device-0", "token-1", "token-2", TTL_MS);
+
+        assertThat(redisService.rotateSession(memberId, "device-0", "token-0", "token-x", TTL_MS)).isEqualTo(REUSED);
+        assertThat(redisService.rotateSession(memberId, "device-0", "token-2", "token-3", TTL_MS)).isEqualTo(MISMATCH);
+        // 다른 기기의 세션은 유지
+        assertThat(redisService.rotateSession(memberId, "device-1", "other-0", "other-1", TTL_MS)).isEqualTo(ROTATED);
+    }
+
+    @Test
+    void 최대_기기_수를_넘으면_가장_오래_사용하지_않은_세션부터_삭제한다() throws Exception {
+        for (int device = 0; device < 5; device++) {
+            redisService.startSession(memberId, "device-" + device, "token-" + device, TTL_MS);
+            Thread.sleep(2);
+        }
+        // device-0을 최근에 사용
+        redisService.rotateSession(memberId, "device-0", "token-0", "token-0-1", TTL_MS);
+        Thread.sleep(2);
+
+        assertThat(redisService.startSession(memberId, "device-5", "token-5", TTL_MS)).isEqualTo(1);
+        assertThat(redisService.rotateSession(memberId, "device-1", "token-1", "token-1-1", TTL_MS)).isEqualTo(MISMATCH);
+        assertThat(redisService.rotateSession(memberId, "device-0", "token-0-1", "token-0-2", TTL_MS)).isEqualTo(ROTATED);
+    }
+
+    @Test
+    void 세션_도입_전_토큰은_한_번만_사용할_수_있다() {
+        redisTemplate.opsForValue().set("rl:" + memberId, TokenDigestUtil.fingerprint("single-token"));
+
+        assertThat(redisService.consumeLegacyRefreshToken(memberId, "other-token")).isFalse();
+        assertThat(redisService.consumeLegacyRefreshToken(memberId, "single-token")).isTrue();
+        assertThat(redisService.consumeLegacyRefreshToken(memberId, "single-token")).isFalse();
+    }
+
+    @Test
+    void 원문으로_저장된_이전_형식_토큰도_확인_후_삭제한다() {
+        redisTemplate.opsForValue().set("FMRT: " + memberId, "raw-token");
+
+        assertThat(redisService.consumeLegacyRefreshToken(memberId, "raw-token")).isTrue();
+        assertThat(redisTemplate.hasKey("FMRT: " + memberId)).isFalse();
+    }
+
+    @Test
+    void 원문_토큰_키를_옮기면_fingerprint로_확인할_수_있다() {
+        redisTemplate.opsForValue().set("FMRT: " + memberId, "raw-token", Duration.ofMillis(TTL_MS));
+
+        assertThat(redisService.migrateLegacyKeys()).isPositive();
+        assertThat(redisTemplate.hasKey("FMRT: " + memberId)).isFalse();
+        assertThat(redisTemplate.opsForValue().get("rl:" + memberId)).isEqualTo(TokenDigestUtil.fingerprint("raw-token"));
+        assertThat(redisService.consumeLegacyRefreshToken(memberId, "raw-token")).isTrue();
+    }
+}